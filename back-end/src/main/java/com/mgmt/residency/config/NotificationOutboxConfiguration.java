@@ -0,0 +1,31 @@
+package com.mgmt.residency.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class NotificationOutboxConfiguration {
+
+	@Bean
+	public ThreadPoolTaskExecutor notificationDispatchExecutor(
+			@Value("${notification.outbox.dispatch-threads}") int dispatchThreads,
+			@Value("${notification.outbox.queue-capacity}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(dispatchThreads);
+		executor.setMaxPoolSize(dispatchThreads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("notification-dispatch-");
+		// When the queue is full the poller sends the group itself, which also slows down polling
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.initialize();
+		return executor;
+	}
+
+}
@@ -16,6 +16,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import com.mgmt.residency.security.JwtAuthenticationEntryPoint;
 import com.mgmt.residency.security.JwtAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 
 
 @Configuration
@@ -42,6 +44,8 @@ public class SecurityConfig {
 	SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 		http.csrf(csrf -> csrf.disable()).cors(Customizer.withDefaults())
 				.authorizeHttpRequests(authorize -> authorize
+						// Async dispatches only complete streaming responses that were authorised on the way in
+						.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 						.requestMatchers("/api/v1/auth/**", "/ws/**")
 						.permitAll().requestMatchers(SWAGGER_WHITELIST).permitAll().anyRequest().authenticated())
 				.exceptionHandling(exception -> exception.authenticationEntryPoint(authenticationEntryPoint))
@@ -0,0 +1,52 @@
+package com.mgmt.residency.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+import com.mgmt.residency.websocket.BoundedSubProtocolWebSocketHandler;
+import com.mgmt.residency.websocket.OverflowPolicy;
+import com.mgmt.residency.websocket.WebSocketBackpressureMetrics;
+
+// Stands in for @EnableWebSocketMessageBroker so STOMP sessions are wrapped by BoundedSendSession alone; the
+// broker, endpoints and channels are still configured in WebSocketConfiguration
+@Configuration
+public class WebSocketBrokerConfiguration extends DelegatingWebSocketMessageBrokerConfiguration {
+
+	@Autowired
+	private WebSocketBackpressureMetrics backpressureMetrics;
+
+	@Value("${websocket.session.max-queued-frames}")
+	private int maxQueuedFrames;
+
+	@Value("${websocket.session.overflow-policy}")
+	private OverflowPolicy overflowPolicy;
+
+	@Value("${websocket.session.flush-threads}")
+	private int flushThreads;
+
+	@Bean
+	public ThreadPoolTaskExecutor websocketFlushExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(flushThreads);
+		executor.setMaxPoolSize(flushThreads);
+		executor.setThreadNamePrefix("ws-flush-");
+		return executor;
+	}
+
+	@Bean
+	@Override
+	public WebSocketHandler subProtocolWebSocketHandler(AbstractSubscribableChannel clientInboundChannel,
+			AbstractSubscribableChannel clientOutboundChannel) {
+		BoundedSubProtocolWebSocketHandler handler = new BoundedSubProtocolWebSocketHandler(clientInboundChannel,
+				clientOutboundChannel, websocketFlushExecutor(), backpressureMetrics, maxQueuedFrames, overflowPolicy);
+		handler.setPhase(getPhase());
+		return handler;
+	}
+
+}
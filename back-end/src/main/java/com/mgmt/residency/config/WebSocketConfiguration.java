@@ -1,14 +1,85 @@
 package com.mgmt.residency.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import com.mgmt.residency.security.StompAuthenticationInterceptor;
 
 @Configuration
-@EnableWebSocketMessageBroker
 public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer {
+
+	private static final String RELAY_TCP_CLIENT = "reactor.netty.tcp.TcpClient";
+
+	@Autowired
+	private StompAuthenticationInterceptor stompAuthenticationInterceptor;
+
+	@Value("${websocket.transport.message-size-limit}")
+	private int messageSizeLimit;
+
+	@Value("${websocket.transport.send-time-limit-ms}")
+	private int sendTimeLimitMs;
+
+	@Value("${websocket.transport.send-buffer-size-limit}")
+	private int sendBufferSizeLimit;
+
+	@Value("${websocket.inbound.core-pool-size}")
+	private int inboundCorePoolSize;
+
+	@Value("${websocket.inbound.max-pool-size}")
+	private int inboundMaxPoolSize;
+
+	@Value("${websocket.inbound.queue-capacity}")
+	private int inboundQueueCapacity;
+
+	@Value("${websocket.outbound.core-pool-size}")
+	private int outboundCorePoolSize;
+
+	@Value("${websocket.outbound.max-pool-size}")
+	private int outboundMaxPoolSize;
+
+	@Value("${websocket.outbound.queue-capacity}")
+	private int outboundQueueCapacity;
+
+	@Value("${websocket.heartbeat-ms}")
+	private long heartbeatMs;
+
+	@Value("${websocket.broker.type}")
+	private String brokerType;
+
+	@Value("${websocket.broker.relay.host}")
+	private String relayHost;
+
+	@Value("${websocket.broker.relay.port}")
+	private int relayPort;
+
+	@Value("${websocket.broker.relay.login}")
+	private String relayLogin;
+
+	@Value("${websocket.broker.relay.passcode}")
+	private String relayPasscode;
+
+	@Value("${websocket.broker.relay.virtual-host}")
+	private String relayVirtualHost;
+
+	@Bean
+	public ThreadPoolTaskScheduler websocketHeartbeatScheduler() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(1);
+		scheduler.setThreadNamePrefix("ws-heartbeat-");
+		return scheduler;
+	}
+
 	@Override
 	public void registerStompEndpoints(StompEndpointRegistry stompEndpointRegistry) {
 		stompEndpointRegistry.addEndpoint("/ws").setAllowedOriginPatterns("*").withSockJS();
@@ -16,6 +87,46 @@ public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer
 
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry registry) {
-		registry.enableSimpleBroker("/all", "/user","/announcements","/task");
+		if ("relay".equalsIgnoreCase(brokerType)) {
+			// Without this check the relay only fails when it first connects, after the node already took traffic
+			if (!ClassUtils.isPresent(RELAY_TCP_CLIENT, getClass().getClassLoader())) {
+				throw new IllegalStateException("websocket.broker.type=relay needs reactor-netty on the classpath; "
+						+ "build with -Pbroker-relay or set websocket.broker.type=simple");
+			}
+			StompBrokerRelayRegistration relay = registry.enableStompBrokerRelay("/all", "/queue", "/topic")
+					.setRelayHost(relayHost).setRelayPort(relayPort).setClientLogin(relayLogin)
+					.setClientPasscode(relayPasscode).setSystemLogin(relayLogin).setSystemPasscode(relayPasscode)
+					.setSystemHeartbeatSendInterval(heartbeatMs).setSystemHeartbeatReceiveInterval(heartbeatMs);
+			if (StringUtils.hasText(relayVirtualHost)) {
+				relay.setVirtualHost(relayVirtualHost);
+			}
+			// Share user sessions and unresolved user messages with the other nodes through the broker
+			relay.setUserDestinationBroadcast("/topic/unresolved-user-destination");
+			relay.setUserRegistryBroadcast("/topic/simp-user-registry");
+		} else {
+			registry.enableSimpleBroker("/all", "/queue").setHeartbeatValue(new long[] { heartbeatMs, heartbeatMs })
+					.setTaskScheduler(websocketHeartbeatScheduler());
+		}
+		registry.setUserDestinationPrefix("/user");
+	}
+
+	@Override
+	public void configureClientInboundChannel(ChannelRegistration registration) {
+		registration.interceptors(stompAuthenticationInterceptor);
+		registration.taskExecutor().corePoolSize(inboundCorePoolSize).maxPoolSize(inboundMaxPoolSize)
+				.queueCapacity(inboundQueueCapacity);
+	}
+
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		registration.taskExecutor().corePoolSize(outboundCorePoolSize).maxPoolSize(outboundMaxPoolSize)
+				.queueCapacity(outboundQueueCapacity);
+	}
+
+	@Override
+	public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+		// Read by BoundedSubProtocolWebSocketHandler, which applies them per session through BoundedSendSession
+		registration.setMessageSizeLimit(messageSizeLimit).setSendTimeLimit(sendTimeLimitMs)
+				.setSendBufferSizeLimit(sendBufferSizeLimit);
 	}
 }
@@ -10,9 +10,17 @@ public class AppConstant {
 
 	public static final String SPECIFIC_USER_TOPIC = "/all/user";
 
-	public static final String ANNOUNCEMENT_TOPIC = "/announcements/{USER_ID}";
-	
-	public static final String TASK_TOPIC = "/task/{USER_ID}";
+	public static final String ANNOUNCEMENT_QUEUE = "/queue/announcements";
+
+	public static final String TASK_QUEUE = "/queue/tasks";
+
+	public static final String UNREAD_COUNT_QUEUE = "/queue/unread-count";
+
+	public static final String POLL_RESULTS_TOPIC_PREFIX = "/all/polls/";
+
+	public static final String POLL_RESULTS_TOPIC = POLL_RESULTS_TOPIC_PREFIX + "%d/results";
+
+	public static final String RECEIPT_DOWNLOAD_PATH = "/api/v1/payment/receipt/{FILE_ID}";
 
 	public static final String ANNOUNCEMENT_NOTIFICATION_MESSAGE = " created a new announcement, ";
 
@@ -1,5 +1,15 @@
 package com.mgmt.residency.constants;
 
 public enum NotificationType {
-	POLL, TASK, ANNOUNCEMENT
+	POLL(true), TASK(false), ANNOUNCEMENT(false);
+
+	private final boolean broadcast;
+
+	NotificationType(boolean broadcast) {
+		this.broadcast = broadcast;
+	}
+
+	public boolean isBroadcast() {
+		return broadcast;
+	}
 }
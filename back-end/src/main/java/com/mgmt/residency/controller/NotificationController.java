@@ -4,20 +4,34 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.mgmt.residency.request.dto.NotificationStatusRequestDto;
 import com.mgmt.residency.response.dto.NotificationDto;
+import com.mgmt.residency.response.dto.NotificationOutboxMetricsDto;
+import com.mgmt.residency.response.dto.NotificationPageDto;
+import com.mgmt.residency.response.dto.NotificationStatusDeltaDto;
+import com.mgmt.residency.response.dto.UnreadCountDto;
+import com.mgmt.residency.response.dto.WebSocketBackpressureMetricsDto;
+import com.mgmt.residency.response.dto.WebSocketSessionStatsDto;
 import com.mgmt.residency.security.service.UserDetailsImpl;
 import com.mgmt.residency.service.NotificationService;
+import com.mgmt.residency.service.NotificationStreamService;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/v1/notification")
@@ -28,6 +42,9 @@ public class NotificationController {
 	@Autowired
 	NotificationService notificationService;
 
+	@Autowired
+	NotificationStreamService notificationStreamService;
+
 	@GetMapping
 	public ResponseEntity<List<NotificationDto>> getAllNotifications(
 			@AuthenticationPrincipal UserDetailsImpl customUser) {
@@ -35,6 +52,55 @@ public class NotificationController {
 		return new ResponseEntity<List<NotificationDto>>(Notifications, HttpStatus.OK);
 	}
 
+	@GetMapping("/unread-count")
+	public ResponseEntity<UnreadCountDto> getUnreadCount(@AuthenticationPrincipal UserDetailsImpl customUser) {
+		return new ResponseEntity<UnreadCountDto>(notificationService.getUnreadCount(customUser.getId()),
+				HttpStatus.OK);
+	}
+
+	@GetMapping("/page")
+	public ResponseEntity<NotificationPageDto> getNotificationPage(@AuthenticationPrincipal UserDetailsImpl customUser,
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", required = false) Integer size) {
+		NotificationPageDto page = notificationService.getNotificationPage(customUser.getId(), cursor, size);
+		return ResponseEntity.ok(page);
+	}
+
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamNotifications(
+			@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+			@AuthenticationPrincipal UserDetailsImpl customUser) {
+		return notificationStreamService.subscribe(customUser.getId(), lastEventId);
+	}
+
+	@GetMapping("/sessions")
+	public ResponseEntity<WebSocketSessionStatsDto> getSessionStats(
+			@AuthenticationPrincipal UserDetailsImpl customUser) {
+		return new ResponseEntity<WebSocketSessionStatsDto>(notificationService.getSessionStats(customUser.getRole()),
+				HttpStatus.OK);
+	}
+
+	@GetMapping("/websocket/metrics")
+	public ResponseEntity<WebSocketBackpressureMetricsDto> getWebSocketMetrics(
+			@AuthenticationPrincipal UserDetailsImpl customUser) {
+		return new ResponseEntity<WebSocketBackpressureMetricsDto>(
+				notificationService.getWebSocketMetrics(customUser.getRole()), HttpStatus.OK);
+	}
+
+	@GetMapping("/outbox/metrics")
+	public ResponseEntity<NotificationOutboxMetricsDto> getOutboxMetrics(
+			@AuthenticationPrincipal UserDetailsImpl customUser) {
+		return new ResponseEntity<NotificationOutboxMetricsDto>(
+				notificationService.getOutboxMetrics(customUser.getRole()), HttpStatus.OK);
+	}
+
+	@PutMapping("/status")
+	public ResponseEntity<NotificationStatusDeltaDto> updateViewStatuses(
+			@Valid @RequestBody NotificationStatusRequestDto dto, @AuthenticationPrincipal UserDetailsImpl customUser) {
+		NotificationStatusDeltaDto delta = notificationService.updateViewStatuses(customUser.getId(), dto);
+		return new ResponseEntity<NotificationStatusDeltaDto>(delta, HttpStatus.OK);
+	}
+
 	@PutMapping("/status/{notificationId}")
 	public ResponseEntity<List<NotificationDto>> updateViewStatus(@PathVariable("notificationId") long notificationId,
 			@AuthenticationPrincipal UserDetailsImpl customUser) {
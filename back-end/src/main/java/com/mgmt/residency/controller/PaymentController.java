@@ -1,31 +1,44 @@
 package com.mgmt.residency.controller;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.mgmt.residency.entity.Payment;
+import com.mgmt.residency.request.dto.BulkIncomePaymentRequestDto;
 import com.mgmt.residency.request.dto.IncomePaymentRequestDto;
+import com.mgmt.residency.response.dto.BulkIncomePaymentResponseDto;
 import com.mgmt.residency.response.dto.OverallPaymentDto;
+import com.mgmt.residency.response.dto.OverallPaymentPageDto;
 import com.mgmt.residency.response.dto.PaymentDetailsResponseDto;
 import com.mgmt.residency.response.dto.PaymentResponseDto;
 import com.mgmt.residency.security.service.UserDetailsImpl;
+import com.mgmt.residency.service.LedgerExportService;
 import com.mgmt.residency.service.PaymentService;
+import com.mgmt.residency.service.ReceiptService;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @RestController
@@ -39,6 +52,12 @@ public class PaymentController {
 	@Autowired
 	private PaymentService paymentService;
 
+	@Autowired
+	private ReceiptService receiptService;
+
+	@Autowired
+	private LedgerExportService ledgerExportService;
+
 	@PostMapping("/expense")
 	public ResponseEntity<Payment> createExpensePayment(@RequestPart("paymentDetails") String paymentDetails,
 			@RequestPart("files") MultipartFile[] files, @AuthenticationPrincipal UserDetailsImpl userDetails) {
@@ -57,6 +76,15 @@ public class PaymentController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(payment);
 	}
 
+	@PostMapping("/income/bulk")
+	public ResponseEntity<BulkIncomePaymentResponseDto> createIncomePayments(
+			@RequestBody @Valid BulkIncomePaymentRequestDto dto, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+		LOGGER.info("Creating {} income payments in bulk for userId: {}", dto.getPayments().size(),
+				userDetails.getId());
+		BulkIncomePaymentResponseDto response = paymentService.createIncomePayments(userDetails.getId(), dto);
+		return ResponseEntity.status(HttpStatus.CREATED).body(response);
+	}
+
 	@GetMapping("/summary")
 	public ResponseEntity<List<PaymentDetailsResponseDto>> getPaymentsGroupedByUserAndDay(
 			@AuthenticationPrincipal UserDetailsImpl user) {
@@ -81,4 +109,37 @@ public class PaymentController {
 		return ResponseEntity.ok(payments);
 	}
 
+	@GetMapping("/combined/page")
+	public ResponseEntity<OverallPaymentPageDto> getCombinedPaymentsPage(@AuthenticationPrincipal UserDetailsImpl user,
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", required = false) Integer size,
+			@RequestParam(name = "type", required = false) String type,
+			@RequestParam(name = "fromDate", required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate fromDate,
+			@RequestParam(name = "toDate", required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate toDate) {
+
+		OverallPaymentPageDto page = paymentService.getCombinedPaymentsPage(user.getId(), user.getRole(), cursor, size,
+				type, fromDate, toDate);
+		return ResponseEntity.ok(page);
+	}
+
+	@GetMapping("/export")
+	public void exportLedger(@AuthenticationPrincipal UserDetailsImpl user,
+			@RequestParam(name = "format", required = false, defaultValue = "csv") String format,
+			@RequestParam(name = "type", required = false) String type,
+			@RequestParam(name = "fromDate", required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate fromDate,
+			@RequestParam(name = "toDate", required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate toDate,
+			HttpServletResponse response) throws IOException {
+
+		LOGGER.info("Exporting ledger as {} for userId: {}, from {} to {}", format, user.getId(), fromDate, toDate);
+		ledgerExportService.exportLedger(user.getId(), user.getRole(), format, type, fromDate, toDate, response);
+	}
+
+	@GetMapping("/receipt/{fileId}")
+	public void downloadReceipt(@PathVariable("fileId") Long fileId, @AuthenticationPrincipal UserDetailsImpl user,
+			HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+		LOGGER.info("Streaming receipt {} for userId: {}", fileId, user.getId());
+		receiptService.streamReceipt(user.getId(), user.getRole(), fileId, request, response);
+	}
+
 }
@@ -16,13 +16,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.mgmt.residency.entity.Poll;
 import com.mgmt.residency.request.dto.PollRequestDto;
 import com.mgmt.residency.request.dto.VoteRequestDto;
 import com.mgmt.residency.response.dto.CommonPollResponseDto;
+import com.mgmt.residency.response.dto.PollPageDto;
+import com.mgmt.residency.response.dto.PollVotersPageDto;
 import com.mgmt.residency.security.service.UserDetailsImpl;
+import com.mgmt.residency.service.VoteIngestionService;
 import com.mgmt.residency.service.VotingService;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -39,6 +43,9 @@ public class VotingController {
 	@Autowired
 	private VotingService votingService;
 
+	@Autowired(required = false)
+	private VoteIngestionService voteIngestionService;
+
 	@PostMapping("/poll")
 	public ResponseEntity<Poll> createPoll(@Valid @RequestBody PollRequestDto pollRequestDto,
 			@AuthenticationPrincipal UserDetailsImpl userDetails) {
@@ -66,10 +73,37 @@ public class VotingController {
 		return ResponseEntity.ok(polls);
 	}
 
+	@GetMapping("/polls/page")
+	public ResponseEntity<PollPageDto> getPollPage(@AuthenticationPrincipal UserDetailsImpl userDetail,
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", required = false) Integer size) {
+		LOGGER.info("User [{}] is fetching polls page", userDetail.getId());
+		PollPageDto page = votingService.getPollPage(userDetail.getId(), userDetail.getRole(), cursor, size);
+		return ResponseEntity.ok(page);
+	}
+
+	@GetMapping("/poll/{pollId}/voters")
+	public ResponseEntity<PollVotersPageDto> getPollVoters(@PathVariable("pollId") Long pollId,
+			@RequestParam(name = "option") String option,
+			@RequestParam(name = "cursor", required = false) Long cursor,
+			@RequestParam(name = "size", required = false) Integer size,
+			@AuthenticationPrincipal UserDetailsImpl userDetails) {
+		LOGGER.info("User [{}] is fetching voters of poll [{}]", userDetails.getId(), pollId);
+		PollVotersPageDto page = votingService.getPollVoters(pollId, option, cursor, size, userDetails.getId());
+		return ResponseEntity.ok(page);
+	}
+
 	@PostMapping
 	public ResponseEntity<String> castVote(@Valid @RequestBody VoteRequestDto voteRequestDto,
 			@AuthenticationPrincipal UserDetailsImpl userDetails) {
 		LOGGER.info("User [{}] is casting vote for poll [{}]", userDetails.getId(), voteRequestDto.getPollId());
+		if (voteIngestionService != null) {
+			// Burst mode: journalled and buffered here, written to the database by the next flush. Routed before
+			// VotingService so no transaction or pooled connection is held while the journal syncs
+			voteIngestionService.accept(voteRequestDto, userDetails.getId());
+			LOGGER.info("Vote accepted for buffered write from user [{}]", userDetails.getId());
+			return ResponseEntity.status(HttpStatus.ACCEPTED).body("Vote accepted");
+		}
 		votingService.castVote(voteRequestDto, userDetails.getId());
 		LOGGER.info("Vote cast successfully by user [{}]", userDetails.getId());
 		return ResponseEntity.status(HttpStatus.CREATED).body("Vote cast successfully");
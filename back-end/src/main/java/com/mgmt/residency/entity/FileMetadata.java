@@ -1,17 +1,15 @@
 package com.mgmt.residency.entity;
 
-import java.util.Base64;
-
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Lob;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "file_metadata")
+@Table(name = "file_metadata", indexes = @Index(name = "idx_file_metadata_content_hash", columnList = "content_hash"))
 public class FileMetadata {
 
 	@Id
@@ -21,9 +19,8 @@ public class FileMetadata {
 	@Column(name = "file_name")
 	private String fileName;
 
-	@Lob
-	@Column(name = "receipt_file", columnDefinition = "LONGBLOB")
-	private byte[] receiptFile;
+	@Column(name = "content_hash", length = 64)
+	private String contentHash;
 
 	@Column(name = "file_type")
 	private String fileType;
@@ -47,23 +44,12 @@ public class FileMetadata {
 		this.fileName = fileName;
 	}
 
-	public String getReceiptFile() {
-		if (receiptFile != null && fileType != null) {
-			String mimeType = switch (fileType.toLowerCase()) {
-			case "pdf", "application/pdf" -> "application/pdf";
-			case "jpeg", "jpg" -> "image/jpeg";
-			case "png" -> "image/png";
-			default -> fileType;
-			};
-
-			String base64 = Base64.getEncoder().encodeToString(receiptFile);
-			return "data:" + mimeType + ";base64," + base64;
-		}
-		return null;
+	public String getContentHash() {
+		return contentHash;
 	}
 
-	public void setReceiptFile(byte[] receiptFile) {
-		this.receiptFile = receiptFile;
+	public void setContentHash(String contentHash) {
+		this.contentHash = contentHash;
 	}
 
 	public String getFileType() {
@@ -9,13 +9,14 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
 
 @Entity
-@Table(name = "notification")
+@Table(name = "notification", indexes = @Index(name = "idx_notification_receiver_status_date", columnList = "receiver_id, view_status, date"))
 public class Notification {
 
 	@Id
@@ -0,0 +1,35 @@
+package com.mgmt.residency.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "notification_unread_counter")
+public class NotificationUnreadCounter {
+
+	@Id
+	@Column(name = "user_id", length = 36)
+	private String userId;
+
+	@Column(name = "unread_count", nullable = false)
+	private long unreadCount;
+
+	public String getUserId() {
+		return userId;
+	}
+
+	public void setUserId(String userId) {
+		this.userId = userId;
+	}
+
+	public long getUnreadCount() {
+		return unreadCount;
+	}
+
+	public void setUnreadCount(long unreadCount) {
+		this.unreadCount = unreadCount;
+	}
+
+}
@@ -0,0 +1,87 @@
+package com.mgmt.residency.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+@Entity
+@Table(name = "payment_daily_rollups", uniqueConstraints = @UniqueConstraint(name = "uk_rollup_date_user_type", columnNames = {
+		"rollup_date", "user_id", "payment_type" }), indexes = @Index(name = "idx_rollup_user_date", columnList = "user_id, rollup_date"))
+public class PaymentDailyRollup {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "rollup_date", nullable = false)
+	private LocalDate rollupDate;
+
+	@Column(name = "user_id", nullable = false, length = 36)
+	private String userId;
+
+	@Column(name = "payment_type", nullable = false, length = 20)
+	private String paymentType;
+
+	@Column(name = "amount", nullable = false)
+	private Double amount = 0.0;
+
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public LocalDate getRollupDate() {
+		return rollupDate;
+	}
+
+	public void setRollupDate(LocalDate rollupDate) {
+		this.rollupDate = rollupDate;
+	}
+
+	public String getUserId() {
+		return userId;
+	}
+
+	public void setUserId(String userId) {
+		this.userId = userId;
+	}
+
+	public String getPaymentType() {
+		return paymentType;
+	}
+
+	public void setPaymentType(String paymentType) {
+		this.paymentType = paymentType;
+	}
+
+	public Double getAmount() {
+		return amount;
+	}
+
+	public void setAmount(Double amount) {
+		this.amount = amount;
+	}
+
+	public LocalDateTime getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(LocalDateTime updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.mgmt.residency.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+@Entity
+@Table(name = "poll_option_tally", uniqueConstraints = @UniqueConstraint(name = "uk_tally_poll_option", columnNames = {
+		"poll_id", "option_value" }))
+public class PollOptionTally {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "poll_id", nullable = false)
+	private Long pollId;
+
+	@Column(name = "option_value", nullable = false)
+	private String optionValue;
+
+	@Column(name = "vote_count", nullable = false)
+	private long voteCount;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public Long getPollId() {
+		return pollId;
+	}
+
+	public void setPollId(Long pollId) {
+		this.pollId = pollId;
+	}
+
+	public String getOptionValue() {
+		return optionValue;
+	}
+
+	public void setOptionValue(String optionValue) {
+		this.optionValue = optionValue;
+	}
+
+	public long getVoteCount() {
+		return voteCount;
+	}
+
+	public void setVoteCount(long voteCount) {
+		this.voteCount = voteCount;
+	}
+
+}
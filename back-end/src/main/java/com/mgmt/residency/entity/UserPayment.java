@@ -10,11 +10,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "user_payment")
+@Table(name = "user_payment", indexes = @Index(name = "idx_user_payment_user_payment", columnList = "user_id, payment_id"))
 public class UserPayment {
 
 	@Id
@@ -0,0 +1,70 @@
+package com.mgmt.residency.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "user_payment_balances")
+public class UserPaymentBalance {
+
+	@Id
+	@Column(name = "user_id", nullable = false, length = 36)
+	private String userId;
+
+	@Column(name = "total_income_share", nullable = false)
+	private Double totalIncomeShare = 0.0;
+
+	@Column(name = "total_expense", nullable = false)
+	private Double totalExpense = 0.0;
+
+	@Column(name = "total_task_payout", nullable = false)
+	private Double totalTaskPayout = 0.0;
+
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+
+	public String getUserId() {
+		return userId;
+	}
+
+	public void setUserId(String userId) {
+		this.userId = userId;
+	}
+
+	public Double getTotalIncomeShare() {
+		return totalIncomeShare;
+	}
+
+	public void setTotalIncomeShare(Double totalIncomeShare) {
+		this.totalIncomeShare = totalIncomeShare;
+	}
+
+	public Double getTotalExpense() {
+		return totalExpense;
+	}
+
+	public void setTotalExpense(Double totalExpense) {
+		this.totalExpense = totalExpense;
+	}
+
+	public Double getTotalTaskPayout() {
+		return totalTaskPayout;
+	}
+
+	public void setTotalTaskPayout(Double totalTaskPayout) {
+		this.totalTaskPayout = totalTaskPayout;
+	}
+
+	public LocalDateTime getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(LocalDateTime updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+
+}
@@ -0,0 +1,53 @@
+package com.mgmt.residency.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class CsvLedgerWriter implements LedgerWriter {
+
+	private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+	private final Writer writer;
+
+	public CsvLedgerWriter(OutputStream out) throws IOException {
+		this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		// Excel needs the BOM to pick UTF-8 for names with accents
+		writer.write('\uFEFF');
+	}
+
+	@Override
+	public void writeRow(List<?> values) throws IOException {
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0)
+				writer.write(',');
+			writer.write(escape(values.get(i)));
+		}
+		writer.write("\r\n");
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.flush();
+	}
+
+	private String escape(Object value) {
+		if (value == null)
+			return "";
+
+		String text = value.toString();
+		// A text cell starting with a formula character would be evaluated by spreadsheet apps
+		if (value instanceof CharSequence && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0)
+			text = "'" + text;
+
+		if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0)
+			return text;
+
+		return "\"" + text.replace("\"", "\"\"") + "\"";
+	}
+
+}
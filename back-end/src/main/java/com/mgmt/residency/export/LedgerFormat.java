@@ -0,0 +1,32 @@
+package com.mgmt.residency.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public enum LedgerFormat {
+
+	CSV("text/csv; charset=UTF-8", "csv"),
+	XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+	private final String contentType;
+
+	private final String extension;
+
+	LedgerFormat(String contentType, String extension) {
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public String getExtension() {
+		return extension;
+	}
+
+	public LedgerWriter open(OutputStream out) throws IOException {
+		return this == XLSX ? new XlsxLedgerWriter(out) : new CsvLedgerWriter(out);
+	}
+
+}
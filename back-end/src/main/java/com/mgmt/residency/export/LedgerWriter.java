@@ -0,0 +1,11 @@
+package com.mgmt.residency.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+public interface LedgerWriter extends Closeable {
+
+	void writeRow(List<?> values) throws IOException;
+
+}
@@ -0,0 +1,117 @@
+package com.mgmt.residency.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public class XlsxLedgerWriter implements LedgerWriter {
+
+	private static final String CONTENT_TYPES = """
+			<?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+			<Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">
+			<Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>
+			<Default Extension="xml" ContentType="application/xml"/>
+			<Override PartName="/xl/workbook.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml"/>
+			<Override PartName="/xl/worksheets/sheet1.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml"/>
+			</Types>
+			""";
+
+	private static final String ROOT_RELS = """
+			<?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+			<Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+			<Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" Target="xl/workbook.xml"/>
+			</Relationships>
+			""";
+
+	private static final String WORKBOOK = """
+			<?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+			<workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">
+			<sheets><sheet name="Ledger" sheetId="1" r:id="rId1"/></sheets>
+			</workbook>
+			""";
+
+	private static final String WORKBOOK_RELS = """
+			<?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+			<Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+			<Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet" Target="worksheets/sheet1.xml"/>
+			</Relationships>
+			""";
+
+	private final ZipOutputStream zip;
+
+	private final Writer writer;
+
+	public XlsxLedgerWriter(OutputStream out) throws IOException {
+		this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+		this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+
+		writeEntry("[Content_Types].xml", CONTENT_TYPES);
+		writeEntry("_rels/.rels", ROOT_RELS);
+		writeEntry("xl/workbook.xml", WORKBOOK);
+		writeEntry("xl/_rels/workbook.xml.rels", WORKBOOK_RELS);
+
+		// The sheet is the last entry so rows can be written straight into the zip as they arrive
+		zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+		writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+		writer.write("<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>");
+	}
+
+	@Override
+	public void writeRow(List<?> values) throws IOException {
+		writer.write("<row>");
+		for (Object value : values) {
+			if (value == null) {
+				writer.write("<c/>");
+			} else if (value instanceof Number) {
+				writer.write("<c t=\"n\"><v>");
+				writer.write(value.toString());
+				writer.write("</v></c>");
+			} else {
+				writer.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+				writer.write(escape(value.toString()));
+				writer.write("</t></is></c>");
+			}
+		}
+		writer.write("</row>");
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.write("</sheetData></worksheet>");
+		writer.flush();
+		zip.closeEntry();
+		zip.finish();
+	}
+
+	private void writeEntry(String name, String content) throws IOException {
+		zip.putNextEntry(new ZipEntry(name));
+		writer.write(content);
+		writer.flush();
+		zip.closeEntry();
+	}
+
+	private String escape(String text) {
+		StringBuilder sb = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			switch (c) {
+			case '&' -> sb.append("&amp;");
+			case '<' -> sb.append("&lt;");
+			case '>' -> sb.append("&gt;");
+			case '"' -> sb.append("&quot;");
+			default -> {
+				if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r')
+					sb.append(c);
+			}
+			}
+		}
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.mgmt.residency.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class NotificationJdbcRepository {
+
+	private static final String INSERT_NOTIFICATION = """
+			    INSERT INTO notification (sender_id, receiver_id, message, view_status, date)
+			    VALUES (?, ?, ?, false, ?)
+			""";
+
+	private static final String INSERT_OUTBOX = """
+			    INSERT INTO notification_outbox (recipient_id, destination, payload, created_at, next_attempt_at, attempts)
+			    VALUES (?, ?, ?, ?, ?, 0)
+			""";
+
+	// Only creates the counters that are missing, so it is safe to run on every start
+	private static final String BACKFILL_UNREAD_COUNTERS = """
+			    INSERT IGNORE INTO notification_unread_counter (user_id, unread_count)
+			    SELECT receiver_id, COUNT(*) FROM notification WHERE view_status = false GROUP BY receiver_id
+			""";
+
+	private static final String ADJUST_UNREAD_COUNTER = """
+			    INSERT INTO notification_unread_counter (user_id, unread_count) VALUES (?, GREATEST(?, 0))
+			    ON DUPLICATE KEY UPDATE unread_count = unread_count + ?
+			""";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Value("${notification.bulk.batch-size}")
+	private int batchSize;
+
+	public void insertNotifications(String senderId, List<String> receiverIds, String message, LocalDateTime date) {
+		Timestamp timestamp = Timestamp.valueOf(date);
+		jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, receiverIds, batchSize, (ps, receiverId) -> {
+			ps.setString(1, senderId);
+			ps.setString(2, receiverId);
+			ps.setString(3, message);
+			ps.setTimestamp(4, timestamp);
+		});
+	}
+
+	public void insertOutbox(List<String> recipientIds, String destination, String payload, LocalDateTime date) {
+		Timestamp timestamp = Timestamp.valueOf(date);
+		jdbcTemplate.batchUpdate(INSERT_OUTBOX, recipientIds, batchSize, (ps, recipientId) -> {
+			ps.setString(1, recipientId);
+			ps.setString(2, destination);
+			ps.setString(3, payload);
+			ps.setTimestamp(4, timestamp);
+			ps.setTimestamp(5, timestamp);
+		});
+	}
+
+	public void insertOutboxMessages(Map<String, String> payloadByRecipient, String destination, LocalDateTime date) {
+		Timestamp timestamp = Timestamp.valueOf(date);
+		jdbcTemplate.batchUpdate(INSERT_OUTBOX, new ArrayList<>(payloadByRecipient.entrySet()), batchSize,
+				(ps, message) -> {
+					ps.setString(1, message.getKey());
+					ps.setString(2, destination);
+					ps.setString(3, message.getValue());
+					ps.setTimestamp(4, timestamp);
+					ps.setTimestamp(5, timestamp);
+				});
+	}
+
+	public int backfillUnreadCounts() {
+		return jdbcTemplate.update(BACKFILL_UNREAD_COUNTERS);
+	}
+
+	// Every user with unread rows has a counter after the backfill, so a missing one means zero unread and a
+	// single upsert is exact under concurrency
+	public void adjustUnreadCounts(Collection<String> userIds, int delta) {
+		jdbcTemplate.batchUpdate(ADJUST_UNREAD_COUNTER, new ArrayList<>(userIds), batchSize, (ps, userId) -> {
+			ps.setString(1, userId);
+			ps.setInt(2, delta);
+			ps.setInt(3, delta);
+		});
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.mgmt.residency.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.mgmt.residency.entity.NotificationOutbox;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+	@Query("""
+			    SELECT o FROM NotificationOutbox o
+			    WHERE o.nextAttemptAt <= :now
+			    ORDER BY o.id
+			""")
+	List<NotificationOutbox> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+	@Query("""
+			    SELECT DISTINCT CONCAT(COALESCE(o.recipientId, ''), '|', o.destination) FROM NotificationOutbox o
+			    WHERE o.nextAttemptAt > :now
+			""")
+	Set<String> findDelayedStreams(@Param("now") LocalDateTime now);
+
+}
@@ -1,9 +1,14 @@
 package com.mgmt.residency.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.mgmt.residency.entity.Notification;
@@ -13,13 +18,94 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
 	Notification findByReceiverIdAndId(String loggedUser, long notificationId);
 
+	long countByReceiverIdAndViewStatusFalse(String receiverId);
+
+	@Query(value = """
+			    SELECT id FROM notification
+			    WHERE receiver_id = :receiverId AND view_status <> :viewStatus AND id IN (:ids)
+			    FOR UPDATE
+			""", nativeQuery = true)
+	List<Long> lockIdsToChange(@Param("receiverId") String receiverId, @Param("viewStatus") boolean viewStatus,
+			@Param("ids") Collection<Long> ids);
+
+	@Query(value = """
+			    SELECT id FROM notification
+			    WHERE receiver_id = :receiverId AND view_status <> :viewStatus
+			    FOR UPDATE
+			""", nativeQuery = true)
+	List<Long> lockAllIdsToChange(@Param("receiverId") String receiverId, @Param("viewStatus") boolean viewStatus);
+
+	@Modifying
+	@Query("UPDATE Notification n SET n.viewStatus = :viewStatus WHERE n.receiver.id = :receiverId AND n.id IN :ids")
+	int updateViewStatus(@Param("receiverId") String receiverId, @Param("ids") Collection<Long> ids,
+			@Param("viewStatus") boolean viewStatus);
+
 	List<Notification> findByReceiverIdAndViewStatusAndDateBetweenOrderByDateDesc(String userId, boolean b,
 			LocalDateTime twoDaysAgo, LocalDateTime currentDate);
 
-	List<Notification> findByReceiverIdAndDateBetweenAndViewStatusTrueOrderByDateDesc(String userId,
-			LocalDateTime twoDaysAgo, LocalDateTime currentDate);
+	interface NotificationInboxRow {
+
+		Long getId();
+
+		String getMessage();
+
+		Boolean getViewStatus();
+
+		LocalDateTime getDate();
+
+		String getSenderId();
+
+		String getSenderFirstName();
+
+		String getSenderLastName();
+
+		String getReceiverId();
+
+		String getReceiverFirstName();
+
+		String getReceiverLastName();
+
+	}
+
+	@Query("""
+			    SELECT n.id AS id, n.message AS message, n.viewStatus AS viewStatus, n.date AS date,
+			        s.id AS senderId, s.firstName AS senderFirstName, s.lastName AS senderLastName,
+			        r.id AS receiverId, r.firstName AS receiverFirstName, r.lastName AS receiverLastName
+			    FROM Notification n JOIN n.sender s JOIN n.receiver r
+			    WHERE r.id = :receiverId
+			    AND (n.viewStatus = false OR n.date >= :readSince)
+			    AND (:cursorId IS NULL
+			        OR (:cursorViewed = false AND n.viewStatus = true)
+			        OR (n.viewStatus = :cursorViewed AND (n.date < :cursorDate
+			            OR (n.date = :cursorDate AND n.id < :cursorId))))
+			    ORDER BY n.viewStatus, n.date DESC, n.id DESC
+			""")
+	List<NotificationInboxRow> findInboxPage(@Param("receiverId") String receiverId,
+			@Param("readSince") LocalDateTime readSince,
+			@Param("cursorViewed") Boolean cursorViewed, @Param("cursorDate") LocalDateTime cursorDate,
+			@Param("cursorId") Long cursorId, Pageable pageable);
+
+	@Query("""
+			    SELECT n FROM Notification n
+			    JOIN FETCH n.sender
+			    JOIN FETCH n.receiver
+			    WHERE n.receiver.id = :receiverId AND n.id > :afterId
+			    ORDER BY n.id
+			""")
+	List<Notification> findByReceiverAfter(@Param("receiverId") String receiverId, @Param("afterId") long afterId,
+			Pageable pageable);
+
+	@Query("""
+			    SELECT n FROM Notification n
+			    JOIN FETCH n.sender
+			    JOIN FETCH n.receiver
+			    WHERE n.receiver.id IN :receiverIds AND n.id > :afterId AND n.id <= :upToId
+			    ORDER BY n.id
+			""")
+	List<Notification> findByReceiversBetween(@Param("receiverIds") Collection<String> receiverIds,
+			@Param("afterId") long afterId, @Param("upToId") long upToId, Pageable pageable);
 
-	List<Notification> findByReceiverIdAndDateBetweenAndViewStatusFalseOrderByDateDesc(String userId,
-			LocalDateTime sevenDaysAgo, LocalDateTime currentDate);
+	@Query("SELECT COALESCE(MAX(n.id), 0) FROM Notification n")
+	long findMaxId();
 
 }
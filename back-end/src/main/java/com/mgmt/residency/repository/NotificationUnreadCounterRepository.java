@@ -0,0 +1,30 @@
+package com.mgmt.residency.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.mgmt.residency.entity.NotificationUnreadCounter;
+
+@Repository
+public interface NotificationUnreadCounterRepository extends JpaRepository<NotificationUnreadCounter, String> {
+
+	interface UnreadCount {
+
+		String getUserId();
+
+		Long getUnreadCount();
+
+	}
+
+	@Query("""
+			    SELECT c.userId AS userId, c.unreadCount AS unreadCount FROM NotificationUnreadCounter c
+			    WHERE c.userId IN :userIds
+			""")
+	List<UnreadCount> findCounts(@Param("userIds") Collection<String> userIds);
+
+}
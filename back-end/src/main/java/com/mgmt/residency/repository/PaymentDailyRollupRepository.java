@@ -0,0 +1,63 @@
+package com.mgmt.residency.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.mgmt.residency.entity.PaymentDailyRollup;
+
+@Repository
+public interface PaymentDailyRollupRepository extends JpaRepository<PaymentDailyRollup, Long> {
+
+	interface DailyTotal {
+		LocalDate getRollupDate();
+
+		String getPaymentType();
+
+		Double getAmount();
+	}
+
+	@Query("""
+			    SELECT r.rollupDate AS rollupDate, r.paymentType AS paymentType, SUM(r.amount) AS amount
+			    FROM PaymentDailyRollup r
+			    WHERE r.rollupDate BETWEEN :fromDate AND :toDate
+			    GROUP BY r.rollupDate, r.paymentType
+			""")
+	List<DailyTotal> sumByDayBetween(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+	@Query("""
+			    SELECT r.rollupDate AS rollupDate, r.paymentType AS paymentType, r.amount AS amount
+			    FROM PaymentDailyRollup r
+			    WHERE r.userId = :userId AND r.rollupDate BETWEEN :fromDate AND :toDate
+			""")
+	List<DailyTotal> findByUserIdAndDayBetween(@Param("userId") String userId, @Param("fromDate") LocalDate fromDate,
+			@Param("toDate") LocalDate toDate);
+
+	@Modifying
+	@Query(value = """
+			    INSERT INTO payment_daily_rollups (rollup_date, user_id, payment_type, amount, updated_at)
+			    SELECT DATE(p.created_at), up.user_id, p.type, SUM(up.amount), NOW()
+			    FROM payments p JOIN user_payment up ON up.payment_id = p.id
+			    WHERE p.type = 'INCOME'
+			    GROUP BY DATE(p.created_at), up.user_id, p.type
+			    ON DUPLICATE KEY UPDATE amount = VALUES(amount)
+			""", nativeQuery = true)
+	int rebuildIncomeRollups();
+
+	@Modifying
+	@Query(value = """
+			    INSERT INTO payment_daily_rollups (rollup_date, user_id, payment_type, amount, updated_at)
+			    SELECT DATE(p.created_at), p.created_by_id, p.type, SUM(p.amount), NOW()
+			    FROM payments p
+			    WHERE p.type = 'EXPENSE'
+			    GROUP BY DATE(p.created_at), p.created_by_id, p.type
+			    ON DUPLICATE KEY UPDATE amount = VALUES(amount)
+			""", nativeQuery = true)
+	int rebuildExpenseRollups();
+
+}
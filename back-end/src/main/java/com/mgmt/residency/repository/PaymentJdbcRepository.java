@@ -0,0 +1,189 @@
+package com.mgmt.residency.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.mgmt.residency.constants.PaymentType;
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.entity.Payment;
+import com.mgmt.residency.entity.PaymentDailyRollup;
+import com.mgmt.residency.entity.UserPayment;
+import com.mgmt.residency.entity.UserPaymentBalance;
+
+@Repository
+public class PaymentJdbcRepository {
+
+	private static final String INSERT_PAYMENT = """
+			    INSERT INTO payments (type, amount, description, created_by_id, created_at, payment_summary_id)
+			    VALUES (?, ?, ?, ?, ?, ?)
+			""";
+
+	private static final String INSERT_USER_PAYMENT = """
+			    INSERT INTO user_payment (payment_id, user_id, amount, created_at)
+			    VALUES (?, ?, ?, ?)
+			""";
+
+	private static final String ACCUMULATE_ROLLUP = """
+			    INSERT INTO payment_daily_rollups (rollup_date, user_id, payment_type, amount, updated_at)
+			    VALUES (?, ?, ?, ?, NOW())
+			    ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount), updated_at = NOW()
+			""";
+
+	private static final String ACCUMULATE_BALANCE = """
+			    INSERT INTO user_payment_balances (user_id, total_income_share, total_expense, total_task_payout, updated_at)
+			    VALUES (?, ?, ?, ?, NOW())
+			    ON DUPLICATE KEY UPDATE
+			        total_income_share = total_income_share + VALUES(total_income_share),
+			        total_expense = total_expense + VALUES(total_expense),
+			        total_task_payout = total_task_payout + VALUES(total_task_payout),
+			        updated_at = NOW()
+			""";
+
+	private static final String LEDGER_SELECT = """
+			    SELECT p.id, p.created_at, p.type, p.description, p.amount,
+			        cb.first_name AS created_by_first_name, cb.last_name AS created_by_last_name,
+			        cb.email AS created_by_email,
+			        u.first_name AS user_first_name, u.last_name AS user_last_name, u.email AS user_email,
+			        up.amount AS user_amount
+			    FROM payments p
+			    LEFT JOIN users cb ON cb.id = p.created_by_id
+			""";
+
+	private static final String LEDGER_SHARES = """
+			    LEFT JOIN user_payment up ON up.payment_id = p.id
+			    LEFT JOIN users u ON u.id = up.user_id
+			""";
+
+	// Non-admins only ever see their own share, never the other residents on a shared payment
+	private static final String LEDGER_OWN_SHARE = """
+			    LEFT JOIN user_payment up ON up.payment_id = p.id AND up.user_id = ?
+			    LEFT JOIN users u ON u.id = up.user_id
+			""";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Value("${payment.bulk.batch-size}")
+	private int batchSize;
+
+	public void insertPayments(List<Payment> payments) {
+		jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+			try (PreparedStatement ps = connection.prepareStatement(INSERT_PAYMENT, Statement.RETURN_GENERATED_KEYS)) {
+				int assigned = 0;
+				for (int i = 0; i < payments.size(); i++) {
+					Payment payment = payments.get(i);
+					ps.setString(1, payment.getType());
+					ps.setDouble(2, payment.getAmount());
+					ps.setString(3, payment.getDescription());
+					ps.setString(4, payment.getCreatedBy().getId());
+					ps.setTimestamp(5, Timestamp.valueOf(payment.getCreatedAt()));
+					if (payment.getPaymentSummary() != null) {
+						ps.setLong(6, payment.getPaymentSummary().getId());
+					} else {
+						ps.setNull(6, Types.BIGINT);
+					}
+					ps.addBatch();
+
+					if ((i + 1) % batchSize == 0 || i == payments.size() - 1) {
+						ps.executeBatch();
+						try (ResultSet keys = ps.getGeneratedKeys()) {
+							while (keys.next()) {
+								payments.get(assigned++).setId(keys.getLong(1));
+							}
+						}
+					}
+				}
+			}
+			return null;
+		});
+	}
+
+	public void insertUserPayments(List<UserPayment> userPayments) {
+		jdbcTemplate.batchUpdate(INSERT_USER_PAYMENT, userPayments, batchSize, (ps, userPayment) -> {
+			ps.setLong(1, userPayment.getPayment().getId());
+			ps.setString(2, userPayment.getUser().getId());
+			ps.setDouble(3, userPayment.getAmount());
+			ps.setTimestamp(4, Timestamp.valueOf(userPayment.getCreatedAt()));
+		});
+	}
+
+	public void accumulateRollups(List<PaymentDailyRollup> rollups) {
+		jdbcTemplate.batchUpdate(ACCUMULATE_ROLLUP, rollups, batchSize, (ps, rollup) -> {
+			ps.setObject(1, rollup.getRollupDate(), Types.DATE);
+			ps.setString(2, rollup.getUserId());
+			ps.setString(3, rollup.getPaymentType());
+			ps.setDouble(4, rollup.getAmount());
+		});
+	}
+
+	public void accumulateBalances(List<UserPaymentBalance> balances) {
+		jdbcTemplate.batchUpdate(ACCUMULATE_BALANCE, balances, batchSize, (ps, balance) -> {
+			ps.setString(1, balance.getUserId());
+			ps.setDouble(2, balance.getTotalIncomeShare());
+			ps.setDouble(3, balance.getTotalExpense());
+			ps.setDouble(4, balance.getTotalTaskPayout());
+		});
+	}
+
+	public void streamLedger(String userId, String role, String type, LocalDateTime fromDate, LocalDateTime toDate,
+			RowCallbackHandler handler) {
+		StringBuilder sql = new StringBuilder(LEDGER_SELECT);
+		List<Object> params = new ArrayList<>();
+
+		if (UsersRole.ROLE_ADMIN.name().equalsIgnoreCase(role)) {
+			sql.append(LEDGER_SHARES);
+			sql.append(" WHERE 1 = 1");
+		} else if (UsersRole.ROLE_GUEST.name().equalsIgnoreCase(role)) {
+			sql.append(LEDGER_OWN_SHARE);
+			sql.append(" JOIN tasks t ON t.id = p.task_id WHERE p.type = ? AND t.assigned_to_id = ?");
+			params.add(userId);
+			params.add(PaymentType.EXPENSE.name());
+			params.add(userId);
+		} else {
+			sql.append(LEDGER_OWN_SHARE);
+			sql.append(" WHERE (p.created_by_id = ?"
+					+ " OR EXISTS (SELECT 1 FROM user_payment mine WHERE mine.payment_id = p.id AND mine.user_id = ?))");
+			params.add(userId);
+			params.add(userId);
+			params.add(userId);
+		}
+		if (type != null) {
+			sql.append(" AND p.type = ?");
+			params.add(type);
+		}
+		if (fromDate != null) {
+			sql.append(" AND p.created_at >= ?");
+			params.add(Timestamp.valueOf(fromDate));
+		}
+		if (toDate != null) {
+			sql.append(" AND p.created_at < ?");
+			params.add(Timestamp.valueOf(toDate));
+		}
+		sql.append(" ORDER BY p.created_at, p.id, up.id");
+
+		jdbcTemplate.query(connection -> {
+			PreparedStatement ps = connection.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY);
+			// Integer.MIN_VALUE makes Connector/J stream rows instead of buffering the whole result
+			ps.setFetchSize(Integer.MIN_VALUE);
+			for (int i = 0; i < params.size(); i++) {
+				ps.setObject(i + 1, params.get(i));
+			}
+			return ps;
+		}, handler);
+	}
+
+}
@@ -3,7 +3,11 @@ package com.mgmt.residency.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.mgmt.residency.entity.Payment;
 
@@ -29,6 +33,10 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
 	List<Payment> findByCreatedByIdOrUsersUserId(String userId, String userId2);
 
+	Payment findByFileMetadatasId(Long fileId);
+
+	boolean existsByIdAndUsersUserId(Long paymentId, String userId);
+
 	Payment findByTypeAndTaskAssignedToIdAndCreatedAt(String name, String userId, LocalDateTime now);
 
 	List<Payment> findByCreatedAt(LocalDateTime now);
@@ -43,5 +51,101 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 	List<Payment> findByCreatedAtBetweenAndCreatedByIdOrUsersUserId(LocalDateTime startOfToday,
 			LocalDateTime endOfToday, String userId, String userId2);
 
+	@EntityGraph(attributePaths = { "createdBy", "task", "task.assignedTo", "task.assignedBy", "paymentSummary" })
+	@Query("""
+			    SELECT p FROM Payment p
+			    WHERE (:type IS NULL OR p.type = :type)
+			    AND (:fromDate IS NULL OR p.createdAt >= :fromDate)
+			    AND (:toDate IS NULL OR p.createdAt < :toDate)
+			    AND (:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt
+			        OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))
+			    ORDER BY p.createdAt DESC, p.id DESC
+			""")
+	List<Payment> findFeedPage(@Param("type") String type, @Param("fromDate") LocalDateTime fromDate,
+			@Param("toDate") LocalDateTime toDate, @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+			@Param("cursorId") Long cursorId, Pageable pageable);
+
+	@EntityGraph(attributePaths = { "createdBy", "task", "task.assignedTo", "task.assignedBy", "paymentSummary" })
+	@Query("""
+			    SELECT p FROM Payment p
+			    WHERE p.type = 'EXPENSE' AND p.task.assignedTo.id = :userId
+			    AND (:fromDate IS NULL OR p.createdAt >= :fromDate)
+			    AND (:toDate IS NULL OR p.createdAt < :toDate)
+			    AND (:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt
+			        OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))
+			    ORDER BY p.createdAt DESC, p.id DESC
+			""")
+	List<Payment> findGuestFeedPage(@Param("userId") String userId, @Param("fromDate") LocalDateTime fromDate,
+			@Param("toDate") LocalDateTime toDate, @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+			@Param("cursorId") Long cursorId, Pageable pageable);
+
+	@EntityGraph(attributePaths = { "createdBy", "task", "task.assignedTo", "task.assignedBy", "paymentSummary" })
+	@Query("""
+			    SELECT p FROM Payment p
+			    WHERE (p.createdBy.id = :userId
+			        OR EXISTS (SELECT up.id FROM UserPayment up WHERE up.payment = p AND up.user.id = :userId))
+			    AND (:type IS NULL OR p.type = :type)
+			    AND (:fromDate IS NULL OR p.createdAt >= :fromDate)
+			    AND (:toDate IS NULL OR p.createdAt < :toDate)
+			    AND (:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt
+			        OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))
+			    ORDER BY p.createdAt DESC, p.id DESC
+			""")
+	List<Payment> findResidentFeedPage(@Param("userId") String userId, @Param("type") String type,
+			@Param("fromDate") LocalDateTime fromDate, @Param("toDate") LocalDateTime toDate,
+			@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorId") Long cursorId,
+			Pageable pageable);
+
+	interface PaymentAmount {
+
+		LocalDateTime getCreatedAt();
+
+		Double getAmount();
+
+	}
+
+	@Query("""
+			    SELECT p.createdAt AS createdAt, p.amount AS amount FROM Payment p
+			    WHERE p.type = :type AND p.task.assignedTo.id = :userId
+			    AND p.createdAt >= :fromDate AND p.createdAt < :toDate
+			""")
+	List<PaymentAmount> findTaskPayoutAmounts(@Param("type") String type, @Param("userId") String userId,
+			@Param("fromDate") LocalDateTime fromDate, @Param("toDate") LocalDateTime toDate);
+
+	@EntityGraph(attributePaths = { "createdBy", "task", "task.assignedTo", "task.assignedBy", "paymentSummary" })
+	@Query("""
+			    SELECT p FROM Payment p
+			""")
+	List<Payment> findAllForFeed();
+
+	@EntityGraph(attributePaths = { "createdBy", "task", "task.assignedTo", "task.assignedBy", "paymentSummary" })
+	@Query("""
+			    SELECT p FROM Payment p
+			    WHERE p.type = 'EXPENSE' AND p.task.assignedTo.id = :userId
+			""")
+	List<Payment> findGuestFeed(@Param("userId") String userId);
+
+	@EntityGraph(attributePaths = { "createdBy", "task", "task.assignedTo", "task.assignedBy", "paymentSummary" })
+	@Query("""
+			    SELECT p FROM Payment p
+			    WHERE p.createdBy.id = :userId
+			        OR EXISTS (SELECT up.id FROM UserPayment up WHERE up.payment = p AND up.user.id = :userId)
+			""")
+	List<Payment> findResidentFeed(@Param("userId") String userId);
+
+	@Query("""
+			    SELECT DISTINCT p FROM Payment p
+			    LEFT JOIN FETCH p.users up
+			    LEFT JOIN FETCH up.user
+			    WHERE p.id IN :paymentIds
+			""")
+	List<Payment> fetchUsersByIdIn(@Param("paymentIds") List<Long> paymentIds);
+
+	@Query("""
+			    SELECT DISTINCT p FROM Payment p
+			    LEFT JOIN FETCH p.fileMetadatas
+			    WHERE p.id IN :paymentIds
+			""")
+	List<Payment> fetchFileMetadatasByIdIn(@Param("paymentIds") List<Long> paymentIds);
 
 }
@@ -1,8 +1,12 @@
 package com.mgmt.residency.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.mgmt.residency.entity.PaymentSummary;
@@ -18,4 +22,15 @@ public interface PaymentSummaryRepository extends JpaRepository<PaymentSummary,
 
 	PaymentSummary findByPaymentsType(String name);
 
+	@Modifying
+	@Query("""
+			    UPDATE PaymentSummary s
+			    SET s.totalIncome = s.totalIncome + :incomeDelta,
+			        s.totalExpense = s.totalExpense + :expenseDelta,
+			        s.updatedAt = :updatedAt
+			    WHERE s.id = :summaryId
+			""")
+	int applyDelta(@Param("summaryId") Long summaryId, @Param("incomeDelta") double incomeDelta,
+			@Param("expenseDelta") double expenseDelta, @Param("updatedAt") LocalDateTime updatedAt);
+
 }
@@ -0,0 +1,49 @@
+package com.mgmt.residency.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.mgmt.residency.entity.PollOptionTally;
+
+public interface PollOptionTallyRepository extends JpaRepository<PollOptionTally, Long> {
+
+	interface OptionTally {
+
+		Long getPollId();
+
+		String getOptionValue();
+
+		Long getVoteCount();
+
+	}
+
+	@Query("""
+			    SELECT t.pollId AS pollId, t.optionValue AS optionValue, t.voteCount AS voteCount
+			    FROM PollOptionTally t
+			    WHERE t.pollId IN :pollIds
+			""")
+	List<OptionTally> findByPollIdIn(@Param("pollIds") Collection<Long> pollIds);
+
+	@Modifying
+	@Query(value = """
+			    INSERT INTO poll_option_tally (poll_id, option_value, vote_count)
+			    VALUES (:pollId, :optionValue, :delta)
+			    ON DUPLICATE KEY UPDATE vote_count = GREATEST(vote_count + VALUES(vote_count), 0)
+			""", nativeQuery = true)
+	int increment(@Param("pollId") Long pollId, @Param("optionValue") String optionValue, @Param("delta") long delta);
+
+	@Modifying
+	@Query(value = """
+			    INSERT INTO poll_option_tally (poll_id, option_value, vote_count)
+			    SELECT poll_id, selected_option, COUNT(*) FROM votes
+			    GROUP BY poll_id, selected_option
+			    ON DUPLICATE KEY UPDATE vote_count = VALUES(vote_count)
+			""", nativeQuery = true)
+	int rebuildFromVotes();
+
+}
@@ -1,8 +1,13 @@
 package com.mgmt.residency.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.mgmt.residency.entity.Poll;
 
@@ -20,4 +25,35 @@ public interface PollRepository extends JpaRepository<Poll, Long> {
 
 	Poll findByIdAndCreatedById(Long pollId, String userId);
 
+	boolean existsByIdAndIsActive(Long pollId, boolean isActive);
+
+	@Query("""
+			    SELECT p FROM Poll p
+			    JOIN FETCH p.createdBy
+			    WHERE (:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt
+			        OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))
+			    ORDER BY p.createdAt DESC, p.id DESC
+			""")
+	List<Poll> findPollPage(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorId") Long cursorId,
+			Pageable pageable);
+
+	@Query("""
+			    SELECT DISTINCT p FROM Poll p
+			    LEFT JOIN FETCH p.options
+			    WHERE p.id IN :pollIds
+			""")
+	List<Poll> fetchOptionsByIdIn(@Param("pollIds") List<Long> pollIds);
+
+	@Query("""
+			    SELECT COUNT(p) > 0 FROM Poll p JOIN p.options o
+			    WHERE p.id = :pollId AND p.isActive = true AND o = :option
+			""")
+	boolean existsActiveWithOption(@Param("pollId") Long pollId, @Param("option") String option);
+
+	@Query("SELECT o FROM Poll p JOIN p.options o WHERE p.id = :pollId AND p.isActive = true")
+	List<String> findActiveOptions(@Param("pollId") Long pollId);
+
+	@Query("SELECT p.id FROM Poll p WHERE p.id IN :pollIds")
+	List<Long> findExistingIds(@Param("pollIds") Collection<Long> pollIds);
+
 }
@@ -0,0 +1,47 @@
+package com.mgmt.residency.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.mgmt.residency.entity.UserPaymentBalance;
+
+@Repository
+public interface UserPaymentBalanceRepository extends JpaRepository<UserPaymentBalance, String> {
+
+	@Modifying
+	@Query(value = """
+			    INSERT INTO user_payment_balances (user_id, total_income_share, total_expense, total_task_payout, updated_at)
+			    SELECT up.user_id, SUM(up.amount), 0, 0, NOW()
+			    FROM payments p JOIN user_payment up ON up.payment_id = p.id
+			    WHERE p.type = 'INCOME'
+			    GROUP BY up.user_id
+			    ON DUPLICATE KEY UPDATE total_income_share = total_income_share + VALUES(total_income_share)
+			""", nativeQuery = true)
+	int rebuildIncomeShares();
+
+	@Modifying
+	@Query(value = """
+			    INSERT INTO user_payment_balances (user_id, total_income_share, total_expense, total_task_payout, updated_at)
+			    SELECT p.created_by_id, 0, SUM(p.amount), 0, NOW()
+			    FROM payments p
+			    WHERE p.type = 'EXPENSE'
+			    GROUP BY p.created_by_id
+			    ON DUPLICATE KEY UPDATE total_expense = total_expense + VALUES(total_expense)
+			""", nativeQuery = true)
+	int rebuildExpenses();
+
+	@Modifying
+	@Query(value = """
+			    INSERT INTO user_payment_balances (user_id, total_income_share, total_expense, total_task_payout, updated_at)
+			    SELECT t.assigned_to_id, 0, 0, SUM(p.amount), NOW()
+			    FROM payments p JOIN tasks t ON t.id = p.task_id
+			    WHERE t.assigned_to_id IS NOT NULL
+			    GROUP BY t.assigned_to_id
+			    ON DUPLICATE KEY UPDATE total_task_payout = total_task_payout + VALUES(total_task_payout)
+			""", nativeQuery = true)
+	int rebuildTaskPayouts();
+
+}
@@ -1,6 +1,7 @@
 package com.mgmt.residency.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -23,6 +24,18 @@ public interface UserRepository extends JpaRepository<User, String> {
 
 	User findByIdAndRole(String userId, String name);
 
+	boolean existsByIdAndRole(String userId, String role);
+
+	@Query("SELECT u.id FROM User u WHERE u.id IN :userIds")
+	List<String> findExistingIds(@Param("userIds") Collection<String> userIds);
+
+	// Ordered so two batches locking overlapping residents always take the row locks in the same order
+	@Query(value = "SELECT id FROM users WHERE id IN :userIds ORDER BY id FOR UPDATE", nativeQuery = true)
+	List<String> lockExistingIds(@Param("userIds") Collection<String> userIds);
+
+	@Query(value = "SELECT COUNT(*) FROM users WHERE id = :userId AND role = :role FOR UPDATE", nativeQuery = true)
+	int lockByIdAndRole(@Param("userId") String userId, @Param("role") String role);
+
 	@Query("SELECT u FROM User u " + "WHERE LOWER(u.role) <> 'role_admin' "
 			+ "AND (:roleType IS NULL OR LOWER(u.role) = LOWER(:roleType)) "
 			+ "AND (:status IS NULL OR LOWER(u.status) = LOWER(:status)) " + "AND ("
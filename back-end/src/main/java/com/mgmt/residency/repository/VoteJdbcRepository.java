@@ -0,0 +1,35 @@
+package com.mgmt.residency.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.mgmt.residency.voting.BufferedVote;
+
+@Repository
+public class VoteJdbcRepository {
+
+	private static final String UPSERT_VOTE = """
+			    INSERT INTO votes (poll_id, voted_by, selected_option)
+			    VALUES (?, ?, ?)
+			    ON DUPLICATE KEY UPDATE selected_option = VALUES(selected_option)
+			""";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Value("${poll.vote-buffer.batch-size}")
+	private int batchSize;
+
+	public void upsertVotes(List<BufferedVote> votes) {
+		jdbcTemplate.batchUpdate(UPSERT_VOTE, votes, batchSize, (ps, vote) -> {
+			ps.setLong(1, vote.getPollId());
+			ps.setString(2, vote.getUserId());
+			ps.setString(3, vote.getSelectedOption());
+		});
+	}
+
+}
@@ -1,9 +1,84 @@
 package com.mgmt.residency.repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.mgmt.residency.entity.Vote;
 
 public interface VoteRepository  extends JpaRepository<Vote, Long>{
 
+	@Modifying
+	@Query(value = """
+			    INSERT INTO votes (poll_id, voted_by, selected_option)
+			    VALUES (:pollId, :userId, :selectedOption)
+			    ON DUPLICATE KEY UPDATE selected_option = VALUES(selected_option)
+			""", nativeQuery = true)
+	int upsertVote(@Param("pollId") Long pollId, @Param("userId") String userId,
+			@Param("selectedOption") String selectedOption);
+
+	long countByPollIdAndVotedById(Long pollId, String userId);
+
+	@Query(value = "SELECT selected_option FROM votes WHERE poll_id = :pollId AND voted_by = :userId", nativeQuery = true)
+	String findSelectedOption(@Param("pollId") Long pollId, @Param("userId") String userId);
+
+	interface Selection {
+
+		Long getPollId();
+
+		String getSelectedOption();
+
+	}
+
+	@Query("""
+			    SELECT v.poll.id AS pollId, v.selectedOption AS selectedOption FROM Vote v
+			    WHERE v.votedBy.id = :userId AND v.poll.id IN :pollIds
+			""")
+	List<Selection> findSelections(@Param("userId") String userId, @Param("pollIds") List<Long> pollIds);
+
+	boolean existsByPollId(Long pollId);
+
+	interface Ballot {
+
+		String getUserId();
+
+		String getSelectedOption();
+
+	}
+
+	@Query("""
+			    SELECT v.votedBy.id AS userId, v.selectedOption AS selectedOption FROM Vote v
+			    WHERE v.poll.id = :pollId AND v.votedBy.id IN :userIds
+			""")
+	List<Ballot> findBallots(@Param("pollId") Long pollId, @Param("userIds") Collection<String> userIds);
+
+	interface Voter {
+
+		Long getVoteId();
+
+		String getId();
+
+		String getFirstName();
+
+		String getLastName();
+
+		String getEmail();
+
+	}
+
+	@Query("""
+			    SELECT v.id AS voteId, u.id AS id, u.firstName AS firstName, u.lastName AS lastName, u.email AS email
+			    FROM Vote v JOIN v.votedBy u
+			    WHERE v.poll.id = :pollId AND v.selectedOption = :option
+			    AND (:cursorId IS NULL OR v.id > :cursorId)
+			    ORDER BY v.id
+			""")
+	List<Voter> findVoters(@Param("pollId") Long pollId, @Param("option") String option,
+			@Param("cursorId") Long cursorId, Pageable pageable);
+
 }
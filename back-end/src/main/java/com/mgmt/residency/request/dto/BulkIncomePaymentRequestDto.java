@@ -0,0 +1,23 @@
+package com.mgmt.residency.request.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public class BulkIncomePaymentRequestDto {
+
+	@NotNull(message = "Payments list cannot be null")
+	@NotEmpty(message = "Payments list cannot be empty")
+	private List<@Valid IncomePaymentRequestDto> payments;
+
+	public List<IncomePaymentRequestDto> getPayments() {
+		return payments;
+	}
+
+	public void setPayments(List<IncomePaymentRequestDto> payments) {
+		this.payments = payments;
+	}
+
+}
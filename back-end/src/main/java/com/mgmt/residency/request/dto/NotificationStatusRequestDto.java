@@ -0,0 +1,40 @@
+package com.mgmt.residency.request.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+
+public class NotificationStatusRequestDto {
+
+	private List<Long> notificationIds;
+
+	private boolean all;
+
+	@NotNull(message = "View status is required")
+	private Boolean viewStatus;
+
+	public List<Long> getNotificationIds() {
+		return notificationIds;
+	}
+
+	public void setNotificationIds(List<Long> notificationIds) {
+		this.notificationIds = notificationIds;
+	}
+
+	public boolean isAll() {
+		return all;
+	}
+
+	public void setAll(boolean all) {
+		this.all = all;
+	}
+
+	public Boolean getViewStatus() {
+		return viewStatus;
+	}
+
+	public void setViewStatus(Boolean viewStatus) {
+		this.viewStatus = viewStatus;
+	}
+
+}
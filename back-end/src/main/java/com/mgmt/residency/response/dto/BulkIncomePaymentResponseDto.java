@@ -0,0 +1,27 @@
+package com.mgmt.residency.response.dto;
+
+import java.util.List;
+
+public class BulkIncomePaymentResponseDto {
+
+	private List<Long> paymentIds;
+
+	private int userPaymentCount;
+
+	public List<Long> getPaymentIds() {
+		return paymentIds;
+	}
+
+	public void setPaymentIds(List<Long> paymentIds) {
+		this.paymentIds = paymentIds;
+	}
+
+	public int getUserPaymentCount() {
+		return userPaymentCount;
+	}
+
+	public void setUserPaymentCount(int userPaymentCount) {
+		this.userPaymentCount = userPaymentCount;
+	}
+
+}
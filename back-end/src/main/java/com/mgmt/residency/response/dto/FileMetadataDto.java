@@ -3,7 +3,7 @@ package com.mgmt.residency.response.dto;
 public class FileMetadataDto {
 	private Long id;
 	private String fileName;
-	private String receiptFile;
+	private String downloadUrl;
 	private String fileType;
 	private Long fileSize;
 
@@ -23,12 +23,12 @@ public class FileMetadataDto {
 		this.fileName = fileName;
 	}
 
-	public String getReceiptFile() {
-		return receiptFile;
+	public String getDownloadUrl() {
+		return downloadUrl;
 	}
 
-	public void setReceiptFile(String receiptFile) {
-		this.receiptFile = receiptFile;
+	public void setDownloadUrl(String downloadUrl) {
+		this.downloadUrl = downloadUrl;
 	}
 
 	public String getFileType() {
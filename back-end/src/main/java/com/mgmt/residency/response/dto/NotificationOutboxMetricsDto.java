@@ -0,0 +1,75 @@
+package com.mgmt.residency.response.dto;
+
+public class NotificationOutboxMetricsDto {
+
+	private long queueDepth;
+
+	private long dispatched;
+
+	private long failedAttempts;
+
+	private long dropped;
+
+	private long skippedOffline;
+
+	private double averageDispatchLatencyMs;
+
+	private long maxDispatchLatencyMs;
+
+	public long getQueueDepth() {
+		return queueDepth;
+	}
+
+	public void setQueueDepth(long queueDepth) {
+		this.queueDepth = queueDepth;
+	}
+
+	public long getDispatched() {
+		return dispatched;
+	}
+
+	public void setDispatched(long dispatched) {
+		this.dispatched = dispatched;
+	}
+
+	public long getFailedAttempts() {
+		return failedAttempts;
+	}
+
+	public void setFailedAttempts(long failedAttempts) {
+		this.failedAttempts = failedAttempts;
+	}
+
+	public long getDropped() {
+		return dropped;
+	}
+
+	public void setDropped(long dropped) {
+		this.dropped = dropped;
+	}
+
+	public long getSkippedOffline() {
+		return skippedOffline;
+	}
+
+	public void setSkippedOffline(long skippedOffline) {
+		this.skippedOffline = skippedOffline;
+	}
+
+	public double getAverageDispatchLatencyMs() {
+		return averageDispatchLatencyMs;
+	}
+
+	public void setAverageDispatchLatencyMs(double averageDispatchLatencyMs) {
+		this.averageDispatchLatencyMs = averageDispatchLatencyMs;
+	}
+
+	public long getMaxDispatchLatencyMs() {
+		return maxDispatchLatencyMs;
+	}
+
+	public void setMaxDispatchLatencyMs(long maxDispatchLatencyMs) {
+		this.maxDispatchLatencyMs = maxDispatchLatencyMs;
+	}
+
+}
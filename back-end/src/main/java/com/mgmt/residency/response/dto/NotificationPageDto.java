@@ -0,0 +1,27 @@
+package com.mgmt.residency.response.dto;
+
+import java.util.List;
+
+public class NotificationPageDto {
+
+	private List<NotificationDto> notifications;
+
+	private String nextCursor;
+
+	public List<NotificationDto> getNotifications() {
+		return notifications;
+	}
+
+	public void setNotifications(List<NotificationDto> notifications) {
+		this.notifications = notifications;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+}
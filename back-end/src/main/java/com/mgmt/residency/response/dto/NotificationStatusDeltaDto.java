@@ -0,0 +1,37 @@
+package com.mgmt.residency.response.dto;
+
+import java.util.List;
+
+public class NotificationStatusDeltaDto {
+
+	private List<Long> changedIds;
+
+	private boolean viewStatus;
+
+	private long unreadCount;
+
+	public List<Long> getChangedIds() {
+		return changedIds;
+	}
+
+	public void setChangedIds(List<Long> changedIds) {
+		this.changedIds = changedIds;
+	}
+
+	public boolean isViewStatus() {
+		return viewStatus;
+	}
+
+	public void setViewStatus(boolean viewStatus) {
+		this.viewStatus = viewStatus;
+	}
+
+	public long getUnreadCount() {
+		return unreadCount;
+	}
+
+	public void setUnreadCount(long unreadCount) {
+		this.unreadCount = unreadCount;
+	}
+
+}
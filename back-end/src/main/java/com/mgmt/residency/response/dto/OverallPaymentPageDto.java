@@ -0,0 +1,27 @@
+package com.mgmt.residency.response.dto;
+
+import java.util.List;
+
+public class OverallPaymentPageDto {
+
+	private List<OverallPaymentDto> payments;
+
+	private String nextCursor;
+
+	public List<OverallPaymentDto> getPayments() {
+		return payments;
+	}
+
+	public void setPayments(List<OverallPaymentDto> payments) {
+		this.payments = payments;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.mgmt.residency.response.dto;
+
+import java.util.List;
+
+public class PollPageDto {
+
+	private List<CommonPollResponseDto> polls;
+
+	private String nextCursor;
+
+	public List<CommonPollResponseDto> getPolls() {
+		return polls;
+	}
+
+	public void setPolls(List<CommonPollResponseDto> polls) {
+		this.polls = polls;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.mgmt.residency.response.dto;
+
+import java.util.Map;
+
+public class PollResultDeltaDto {
+
+	private Long pollId;
+
+	private Map<String, Long> deltas;
+
+	private Map<String, Long> tallies;
+
+	private long voteCount;
+
+	public Long getPollId() {
+		return pollId;
+	}
+
+	public void setPollId(Long pollId) {
+		this.pollId = pollId;
+	}
+
+	public Map<String, Long> getDeltas() {
+		return deltas;
+	}
+
+	public void setDeltas(Map<String, Long> deltas) {
+		this.deltas = deltas;
+	}
+
+	public Map<String, Long> getTallies() {
+		return tallies;
+	}
+
+	public void setTallies(Map<String, Long> tallies) {
+		this.tallies = tallies;
+	}
+
+	public long getVoteCount() {
+		return voteCount;
+	}
+
+	public void setVoteCount(long voteCount) {
+		this.voteCount = voteCount;
+	}
+
+}
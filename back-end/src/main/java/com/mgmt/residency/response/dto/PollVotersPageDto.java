@@ -0,0 +1,27 @@
+package com.mgmt.residency.response.dto;
+
+import java.util.List;
+
+public class PollVotersPageDto {
+
+	private List<UserResponseDto> voters;
+
+	private Long nextCursor;
+
+	public List<UserResponseDto> getVoters() {
+		return voters;
+	}
+
+	public void setVoters(List<UserResponseDto> voters) {
+		this.voters = voters;
+	}
+
+	public Long getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(Long nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+}
@@ -0,0 +1,15 @@
+package com.mgmt.residency.response.dto;
+
+public class UnreadCountDto {
+
+	private long unreadCount;
+
+	public long getUnreadCount() {
+		return unreadCount;
+	}
+
+	public void setUnreadCount(long unreadCount) {
+		this.unreadCount = unreadCount;
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.mgmt.residency.response.dto;
+
+import java.util.Map;
+
+public class WebSocketBackpressureMetricsDto {
+
+	private int openSessions;
+
+	private long totalQueuedBytes;
+
+	private Map<String, Integer> queuedBytesBySession;
+
+	private long droppedFrames;
+
+	private long forcedDisconnects;
+
+	public int getOpenSessions() {
+		return openSessions;
+	}
+
+	public void setOpenSessions(int openSessions) {
+		this.openSessions = openSessions;
+	}
+
+	public long getTotalQueuedBytes() {
+		return totalQueuedBytes;
+	}
+
+	public void setTotalQueuedBytes(long totalQueuedBytes) {
+		this.totalQueuedBytes = totalQueuedBytes;
+	}
+
+	public Map<String, Integer> getQueuedBytesBySession() {
+		return queuedBytesBySession;
+	}
+
+	public void setQueuedBytesBySession(Map<String, Integer> queuedBytesBySession) {
+		this.queuedBytesBySession = queuedBytesBySession;
+	}
+
+	public long getDroppedFrames() {
+		return droppedFrames;
+	}
+
+	public void setDroppedFrames(long droppedFrames) {
+		this.droppedFrames = droppedFrames;
+	}
+
+	public long getForcedDisconnects() {
+		return forcedDisconnects;
+	}
+
+	public void setForcedDisconnects(long forcedDisconnects) {
+		this.forcedDisconnects = forcedDisconnects;
+	}
+
+}
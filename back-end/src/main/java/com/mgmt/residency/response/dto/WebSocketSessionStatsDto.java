@@ -0,0 +1,25 @@
+package com.mgmt.residency.response.dto;
+
+public class WebSocketSessionStatsDto {
+
+	private long connectedUsers;
+
+	private long connectedSessions;
+
+	public long getConnectedUsers() {
+		return connectedUsers;
+	}
+
+	public void setConnectedUsers(long connectedUsers) {
+		this.connectedUsers = connectedUsers;
+	}
+
+	public long getConnectedSessions() {
+		return connectedSessions;
+	}
+
+	public void setConnectedSessions(long connectedSessions) {
+		this.connectedSessions = connectedSessions;
+	}
+
+}
@@ -0,0 +1,93 @@
+package com.mgmt.residency.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import com.mgmt.residency.constants.AppConstant;
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.security.service.UserDetailsImpl;
+
+@Component
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(StompAuthenticationInterceptor.class);
+
+	private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private UserDetailsService userDetailsService;
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+		if (accessor == null) {
+			return message;
+		}
+
+		if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+			checkSubscription(accessor);
+			return message;
+		}
+
+		if (!StompCommand.CONNECT.equals(accessor.getCommand())) {
+			return message;
+		}
+
+		String token = getToken(accessor.getFirstNativeHeader("Authorization"));
+		if (!StringUtils.hasText(token) || !jwtUtil.validateToken(token)) {
+			LOGGER.warn("Rejected STOMP CONNECT without a valid token, session: {}", accessor.getSessionId());
+			throw new MessagingException("Invalid or missing access token");
+		}
+
+		UserDetailsImpl user = (UserDetailsImpl) userDetailsService.loadUserByUsername(jwtUtil.getUsername(token));
+		accessor.setUser(new StompUserPrincipal(user.getId(), user.getRole()));
+		return message;
+	}
+
+	// Live per-option results are admin-only, as they are in the REST poll list. Destinations are checked with the
+	// broker's own matcher so "//" or pattern subscriptions cannot reach the results topics
+	private void checkSubscription(StompHeaderAccessor accessor) {
+		String destination = accessor.getDestination();
+		if (destination == null) {
+			return;
+		}
+
+		if (PATH_MATCHER.isPattern(destination)) {
+			LOGGER.warn("Rejected pattern subscription to {}, session: {}", destination, accessor.getSessionId());
+			throw new MessagingException("Pattern subscriptions are not allowed");
+		}
+
+		if (!PATH_MATCHER.match(AppConstant.POLL_RESULTS_TOPIC_PREFIX + "**", destination)) {
+			return;
+		}
+
+		if (!(accessor.getUser() instanceof StompUserPrincipal user)
+				|| !UsersRole.ROLE_ADMIN.name().equalsIgnoreCase(user.getRole())) {
+			LOGGER.warn("Rejected subscription to {} by non-admin session: {}", destination, accessor.getSessionId());
+			throw new MessagingException("Only admins can subscribe to poll results");
+		}
+	}
+
+	private String getToken(String authHeader) {
+		if (StringUtils.hasText(authHeader) && authHeader.startsWith("Bearer ")) {
+			return authHeader.substring(7);
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.mgmt.residency.security;
+
+import java.security.Principal;
+
+public class StompUserPrincipal implements Principal {
+
+	private final String userId;
+
+	private final String role;
+
+	public StompUserPrincipal(String userId, String role) {
+		this.userId = userId;
+		this.role = role;
+	}
+
+	@Override
+	public String getName() {
+		return userId;
+	}
+
+	public String getRole() {
+		return role;
+	}
+
+}
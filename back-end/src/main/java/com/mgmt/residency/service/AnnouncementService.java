@@ -13,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.mgmt.residency.constants.AppConstant;
 import com.mgmt.residency.constants.NotificationType;
@@ -46,6 +47,7 @@ public class AnnouncementService {
 	@Autowired
 	AnnouncementViewStatusRepository announcementViewStatusRep;
 
+	@Transactional
 	public Announcement createAnnouncement(AnnouncementRequestDto dto, String userId) {
 		try {
 			User createdBy = userRepo.findByIdAndRole(userId, UsersRole.ROLE_ADMIN.name());
@@ -81,9 +83,9 @@ public class AnnouncementService {
 
 			String message = String.format("%s<b>%s</b>", AppConstant.ANNOUNCEMENT_NOTIFICATION_MESSAGE,
 					savedAnnouncement.getTitle());
-			selectedUsers.stream().filter(user -> !user.getId().equals(userId))
-					.forEach(user -> notificationService.sendNotification(createdBy, user, new StringBuilder(message),
-							NotificationType.ANNOUNCEMENT.name()));
+			List<User> recipients = selectedUsers.stream().filter(user -> !user.getId().equals(userId))
+					.collect(Collectors.toList());
+			notificationService.sendNotifications(createdBy, recipients, message, NotificationType.ANNOUNCEMENT.name());
 
 			return savedAnnouncement;
 
@@ -201,6 +203,7 @@ public class AnnouncementService {
 		}
 	}
 
+	@Transactional
 	public Announcement updateAnnouncement(Long announcementId, AnnouncementRequestDto dto, String userId) {
 		try {
 			Announcement announcement = announcementRepo.findByIdAndCreatedById(announcementId, userId);
@@ -257,10 +260,8 @@ public class AnnouncementService {
 				if (!newlyAddedUsers.isEmpty()) {
 					String message = String.format("%s<%s>", AppConstant.ANNOUNCEMENT_NOTIFICATION_MESSAGE,
 							announcement.getTitle());
-					for (User user : newlyAddedUsers) {
-						notificationService.sendNotification(announcement.getCreatedBy(), user,
-								new StringBuilder(message), NotificationType.ANNOUNCEMENT.name());
-					}
+					notificationService.sendNotifications(announcement.getCreatedBy(), newlyAddedUsers, message,
+							NotificationType.ANNOUNCEMENT.name());
 				}
 			}
 
@@ -0,0 +1,108 @@
+package com.mgmt.residency.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mgmt.residency.repository.PollRepository;
+import com.mgmt.residency.repository.UserRepository;
+import com.mgmt.residency.repository.VoteJdbcRepository;
+import com.mgmt.residency.repository.VoteRepository;
+import com.mgmt.residency.repository.VoteRepository.Ballot;
+import com.mgmt.residency.voting.BufferedVote;
+
+@Service
+public class BufferedVoteWriter {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BufferedVoteWriter.class);
+
+	@Autowired
+	private PollRepository pollRepository;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private VoteRepository voteRepo;
+
+	@Autowired
+	private VoteJdbcRepository voteJdbcRepo;
+
+	@Autowired
+	private PollTallyService pollTallyService;
+
+	@Autowired
+	private PollResultPublisher pollResultPublisher;
+
+	// One transaction per batch: one previous-option read per poll, one batched upsert, one tally update per option
+	@Transactional
+	public int write(List<BufferedVote> votes) {
+		Map<Long, List<BufferedVote>> byPoll = withoutOrphans(votes).stream()
+				.collect(Collectors.groupingBy(BufferedVote::getPollId, TreeMap::new, Collectors.toList()));
+
+		List<BufferedVote> changed = new ArrayList<>();
+		Map<Long, Map<String, Long>> deltas = new TreeMap<>();
+		Map<BufferedVote, String> previousOptions = new HashMap<>();
+		byPoll.forEach((pollId, pollVotes) -> {
+			Map<String, String> previous = voteRepo
+					.findBallots(pollId, pollVotes.stream().map(BufferedVote::getUserId).collect(Collectors.toList()))
+					.stream().collect(Collectors.toMap(Ballot::getUserId, Ballot::getSelectedOption));
+
+			for (BufferedVote vote : pollVotes) {
+				String previousOption = previous.get(vote.getUserId());
+				if (vote.getSelectedOption().equals(previousOption))
+					continue;
+
+				changed.add(vote);
+				previousOptions.put(vote, previousOption);
+				Map<String, Long> pollDeltas = deltas.computeIfAbsent(pollId, key -> new HashMap<>());
+				pollDeltas.merge(vote.getSelectedOption(), 1L, Long::sum);
+				if (previousOption != null)
+					pollDeltas.merge(previousOption, -1L, Long::sum);
+			}
+		});
+
+		if (changed.isEmpty())
+			return 0;
+
+		voteJdbcRepo.upsertVotes(changed);
+		deltas.forEach(pollTallyService::applyDeltas);
+		for (BufferedVote vote : changed)
+			pollResultPublisher.recordVote(vote.getPollId(), previousOptions.get(vote), vote.getSelectedOption());
+		return changed.size();
+	}
+
+	// A poll or resident deleted while its votes were buffered would fail the foreign keys and with them the whole
+	// batch on every retry, so those votes are logged and dropped instead. The residents' rows are locked here, the
+	// same lock castVote takes, so a direct vote or another node's flush cannot change a ballot between the
+	// previous-option read and the tally update
+	private List<BufferedVote> withoutOrphans(List<BufferedVote> votes) {
+		Set<Long> polls = new HashSet<>(pollRepository
+				.findExistingIds(votes.stream().map(BufferedVote::getPollId).collect(Collectors.toSet())));
+		Set<String> users = new HashSet<>(
+				userRepo.lockExistingIds(votes.stream().map(BufferedVote::getUserId).collect(Collectors.toSet())));
+
+		List<BufferedVote> kept = new ArrayList<>(votes.size());
+		for (BufferedVote vote : votes) {
+			if (polls.contains(vote.getPollId()) && users.contains(vote.getUserId())) {
+				kept.add(vote);
+			} else {
+				LOGGER.warn("Dropping buffered vote for deleted poll or user, pollId: {}, userId: {}, option: {}",
+						vote.getPollId(), vote.getUserId(), vote.getSelectedOption());
+			}
+		}
+		return kept;
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.mgmt.residency.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import com.mgmt.residency.constants.PaymentType;
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.exception.AppException;
+import com.mgmt.residency.export.LedgerFormat;
+import com.mgmt.residency.export.LedgerWriter;
+import com.mgmt.residency.repository.PaymentJdbcRepository;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+@Service
+public class LedgerExportService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LedgerExportService.class);
+
+	private static final List<String> HEADER = List.of("Payment ID", "Date", "Type", "Description", "Amount",
+			"Created By", "Created By Email", "User", "User Email", "User Amount");
+
+	@Autowired
+	private PaymentJdbcRepository paymentJdbcRepo;
+
+	public void exportLedger(String userId, String role, String format, String type, LocalDate fromDate,
+			LocalDate toDate, HttpServletResponse response) throws IOException {
+		LedgerFormat ledgerFormat;
+		String paymentType;
+		try {
+			ledgerFormat = format == null || format.isBlank() ? LedgerFormat.CSV
+					: LedgerFormat.valueOf(format.toUpperCase());
+			paymentType = type == null || type.isBlank() ? null : PaymentType.valueOf(type.toUpperCase()).name();
+		} catch (IllegalArgumentException e) {
+			throw new AppException("Invalid export format or payment type");
+		}
+		if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+			throw new AppException("fromDate must not be after toDate");
+		}
+
+		LocalDateTime from = fromDate == null ? null : fromDate.atStartOfDay();
+		LocalDateTime to = toDate == null ? null : toDate.plusDays(1).atStartOfDay();
+		boolean guest = UsersRole.ROLE_GUEST.name().equalsIgnoreCase(role);
+
+		response.setContentType(ledgerFormat.getContentType());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename(fileName(fromDate, toDate, ledgerFormat)).build().toString());
+
+		long startedAt = System.nanoTime();
+		long[] rows = { 0 };
+		try (LedgerWriter writer = ledgerFormat.open(response.getOutputStream())) {
+			writer.writeRow(HEADER);
+			paymentJdbcRepo.streamLedger(userId, role, guest ? null : paymentType, from, to, rs -> {
+				try {
+					writer.writeRow(Arrays.asList(rs.getLong("id"),
+							rs.getTimestamp("created_at").toLocalDateTime().toString(),
+							guest ? PaymentType.INCOME.name() : rs.getString("type"), rs.getString("description"),
+							rs.getDouble("amount"),
+							fullName(rs.getString("created_by_first_name"), rs.getString("created_by_last_name")),
+							rs.getString("created_by_email"),
+							fullName(rs.getString("user_first_name"), rs.getString("user_last_name")),
+							rs.getString("user_email"),
+							rs.getObject("user_amount") == null ? null : rs.getDouble("user_amount")));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				rows[0]++;
+			});
+		} catch (UncheckedIOException e) {
+			LOGGER.warn("Ledger export for userId: {} aborted after {} rows: {}", userId, rows[0], e.getMessage());
+			return;
+		}
+
+		LOGGER.info("Ledger export for userId: {} wrote {} rows as {} in {} ms", userId, rows[0], ledgerFormat,
+				(System.nanoTime() - startedAt) / 1_000_000);
+	}
+
+	private String fullName(String firstName, String lastName) {
+		if (firstName == null && lastName == null)
+			return null;
+
+		return ((firstName == null ? "" : firstName) + " " + (lastName == null ? "" : lastName)).trim();
+	}
+
+	private String fileName(LocalDate fromDate, LocalDate toDate, LedgerFormat format) {
+		return "ledger" + (fromDate == null ? "" : "-" + fromDate) + (toDate == null ? "" : "-" + toDate) + "."
+				+ format.getExtension();
+	}
+
+}
@@ -0,0 +1,213 @@
+package com.mgmt.residency.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.mgmt.residency.entity.NotificationOutbox;
+import com.mgmt.residency.repository.NotificationOutboxRepository;
+import com.mgmt.residency.response.dto.NotificationOutboxMetricsDto;
+
+@Service
+public class NotificationOutboxDispatcher {
+
+	private static final String DISPATCH_LOCK = "notification-outbox";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(NotificationOutboxDispatcher.class);
+
+	private static final long MAX_BACKOFF_MS = 5 * 60 * 1000L;
+
+	@Autowired
+	private NotificationOutboxRepository outboxRepo;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private SimpMessagingTemplate template;
+
+	@Autowired
+	private WebSocketSessionRegistry sessionRegistry;
+
+	@Autowired
+	@Qualifier("notificationDispatchExecutor")
+	private ThreadPoolTaskExecutor dispatchExecutor;
+
+	@Value("${notification.outbox.batch-size}")
+	private int batchSize;
+
+	@Value("${notification.outbox.max-attempts}")
+	private int maxAttempts;
+
+	@Value("${notification.outbox.retry-backoff-ms}")
+	private long retryBackoffMs;
+
+	private final AtomicLong queueDepth = new AtomicLong();
+
+	private final AtomicLong dispatched = new AtomicLong();
+
+	private final AtomicLong failedAttempts = new AtomicLong();
+
+	private final AtomicLong dropped = new AtomicLong();
+
+	private final AtomicLong skippedOffline = new AtomicLong();
+
+	private final AtomicLong totalLatencyMs = new AtomicLong();
+
+	private final AtomicLong maxLatencyMs = new AtomicLong();
+
+	@Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms}")
+	public void dispatchPending() {
+		try {
+			// Only one node drains the outbox at a time so per-recipient order holds across the cluster. The lock is
+			// tied to this connection, so it stays checked out for one batch (at most batch-size sends) while the
+			// group workers borrow up to dispatch-threads more; the pool must stay above dispatch-threads + 1
+			jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+				if (acquireLock(connection)) {
+					try {
+						dispatchBatch();
+					} finally {
+						releaseLock(connection);
+					}
+				}
+				return null;
+			});
+			// Counted after the lock is released so the full-table count does not lengthen the locked window
+			queueDepth.set(outboxRepo.count());
+		} catch (Exception e) {
+			LOGGER.error("Failed to dispatch notification outbox: {}", e.getMessage(), e);
+		}
+	}
+
+	private void dispatchBatch() {
+		LocalDateTime now = LocalDateTime.now();
+		List<NotificationOutbox> due = outboxRepo.findDue(now, PageRequest.of(0, batchSize));
+		if (due.isEmpty())
+			return;
+
+		// A stream with a message waiting for retry is held back so its later messages stay in order
+		Set<String> delayed = outboxRepo.findDelayedStreams(now);
+		Map<String, List<NotificationOutbox>> byStream = new LinkedHashMap<>();
+		for (NotificationOutbox message : due) {
+			String stream = streamOf(message);
+			if (!delayed.contains(stream))
+				byStream.computeIfAbsent(stream, key -> new ArrayList<>()).add(message);
+		}
+
+		CompletableFuture<?>[] groups = byStream.values().stream()
+				.map(group -> CompletableFuture.runAsync(() -> dispatchInOrder(group), dispatchExecutor))
+				.toArray(CompletableFuture[]::new);
+		CompletableFuture.allOf(groups).join();
+	}
+
+	private boolean acquireLock(Connection connection) throws SQLException {
+		try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+			ps.setString(1, DISPATCH_LOCK);
+			try (ResultSet rs = ps.executeQuery()) {
+				return rs.next() && rs.getInt(1) == 1;
+			}
+		}
+	}
+
+	private void releaseLock(Connection connection) throws SQLException {
+		try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+			ps.setString(1, DISPATCH_LOCK);
+			ps.executeQuery().close();
+		}
+	}
+
+	public NotificationOutboxMetricsDto getMetrics() {
+		NotificationOutboxMetricsDto dto = new NotificationOutboxMetricsDto();
+		long count = dispatched.get();
+		dto.setQueueDepth(queueDepth.get());
+		dto.setDispatched(count);
+		dto.setFailedAttempts(failedAttempts.get());
+		dto.setDropped(dropped.get());
+		dto.setSkippedOffline(skippedOffline.get());
+		dto.setAverageDispatchLatencyMs(count == 0 ? 0.0 : (double) totalLatencyMs.get() / count);
+		dto.setMaxDispatchLatencyMs(maxLatencyMs.get());
+		return dto;
+	}
+
+	private void dispatchInOrder(List<NotificationOutbox> group) {
+		List<Long> sentIds = new ArrayList<>();
+		for (NotificationOutbox message : group) {
+			try {
+				if (message.getRecipientId() == null) {
+					template.convertAndSend(message.getDestination(), message.getPayload());
+					recordLatency(message.getCreatedAt());
+				} else if (sessionRegistry.isConnected(message.getRecipientId())) {
+					template.convertAndSendToUser(message.getRecipientId(), message.getDestination(),
+							message.getPayload());
+					recordLatency(message.getCreatedAt());
+				} else {
+					skippedOffline.incrementAndGet();
+				}
+				sentIds.add(message.getId());
+			} catch (Exception e) {
+				handleFailure(message, e);
+				break;
+			}
+		}
+
+		if (!sentIds.isEmpty())
+			outboxRepo.deleteAllByIdInBatch(sentIds);
+	}
+
+	private void handleFailure(NotificationOutbox message, Exception e) {
+		failedAttempts.incrementAndGet();
+		int attempts = message.getAttempts() + 1;
+
+		if (attempts >= maxAttempts) {
+			dropped.incrementAndGet();
+			LOGGER.error("Dropping notification {} to {} after {} attempts: {}", message.getId(),
+					message.getDestination(), attempts, e.getMessage());
+			outboxRepo.deleteById(message.getId());
+			return;
+		}
+
+		long backoffMs = Math.min(retryBackoffMs << Math.min(attempts - 1, 20), MAX_BACKOFF_MS);
+		String error = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+		message.setAttempts(attempts);
+		message.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoffMs)));
+		message.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+		outboxRepo.save(message);
+		LOGGER.warn("Notification {} to {} failed (attempt {}), retrying in {} ms: {}", message.getId(),
+				message.getDestination(), attempts, backoffMs, error);
+	}
+
+	private String streamOf(NotificationOutbox message) {
+		return (message.getRecipientId() == null ? "" : message.getRecipientId()) + "|" + message.getDestination();
+	}
+
+	private void recordLatency(LocalDateTime createdAt) {
+		long latencyMs = Duration.between(createdAt, LocalDateTime.now()).toMillis();
+		dispatched.incrementAndGet();
+		totalLatencyMs.addAndGet(latencyMs);
+		maxLatencyMs.accumulateAndGet(latencyMs, Math::max);
+	}
+
+}
@@ -1,25 +1,54 @@
 package com.mgmt.residency.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mgmt.residency.constants.AppConstant;
+import com.mgmt.residency.constants.NotificationType;
+import com.mgmt.residency.constants.UsersRole;
 import com.mgmt.residency.entity.Notification;
+import com.mgmt.residency.entity.NotificationOutbox;
+import com.mgmt.residency.entity.NotificationUnreadCounter;
 import com.mgmt.residency.entity.User;
 import com.mgmt.residency.exception.AppException;
+import com.mgmt.residency.exception.UnauthorizedUserException;
+import com.mgmt.residency.repository.NotificationJdbcRepository;
+import com.mgmt.residency.repository.NotificationOutboxRepository;
 import com.mgmt.residency.repository.NotificationRepository;
+import com.mgmt.residency.repository.NotificationRepository.NotificationInboxRow;
+import com.mgmt.residency.repository.NotificationUnreadCounterRepository;
+import com.mgmt.residency.repository.NotificationUnreadCounterRepository.UnreadCount;
 import com.mgmt.residency.repository.UserRepository;
+import com.mgmt.residency.request.dto.NotificationStatusRequestDto;
 import com.mgmt.residency.response.dto.NotificationDto;
+import com.mgmt.residency.response.dto.NotificationOutboxMetricsDto;
+import com.mgmt.residency.response.dto.NotificationPageDto;
+import com.mgmt.residency.response.dto.NotificationStatusDeltaDto;
+import com.mgmt.residency.response.dto.UnreadCountDto;
 import com.mgmt.residency.response.dto.UserNotificationResponseDto;
+import com.mgmt.residency.response.dto.WebSocketBackpressureMetricsDto;
+import com.mgmt.residency.response.dto.WebSocketSessionStatsDto;
+import com.mgmt.residency.websocket.WebSocketBackpressureMetrics;
+
+import jakarta.annotation.PostConstruct;
 
 @Service
 public class NotificationService {
@@ -34,8 +63,44 @@ public class NotificationService {
 	ObjectMapper mapper;
 
 	@Autowired
-	private SimpMessagingTemplate template;
+	NotificationJdbcRepository notificationJdbcRepo;
+
+	@Autowired
+	NotificationOutboxRepository outboxRepo;
+
+	@Autowired
+	NotificationOutboxDispatcher outboxDispatcher;
+
+	@Autowired
+	WebSocketSessionRegistry sessionRegistry;
+
+	@Autowired
+	WebSocketBackpressureMetrics backpressureMetrics;
+
+	@Autowired
+	NotificationUnreadCounterRepository unreadCounterRepo;
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(NotificationService.class);
+
+	// Read rows age out of the inbox; unread rows stay until read so the badge counter can always be cleared
+	private static final long READ_WINDOW_DAYS = 2;
+
+	@Value("${notification.inbox.default-page-size}")
+	private int defaultInboxPageSize;
+
+	@Value("${notification.inbox.max-page-size}")
+	private int maxInboxPageSize;
+
+	// Runs during startup, before the web server takes traffic, so no request can create a counter ahead of its
+	// backfill; afterwards every change is a single upsert
+	@PostConstruct
+	public void backfillUnreadCounters() {
+		int created = notificationJdbcRepo.backfillUnreadCounts();
+		if (created > 0)
+			LOGGER.info("Unread notification counters backfilled for {} users", created);
+	}
+
+	@Transactional
 	public void sendNotification(User fromUserId, User toUserId, StringBuilder message, String type) {
 		try {
 
@@ -65,61 +130,115 @@ public class NotificationService {
 			notification.setDate(LocalDateTime.now());
 
 			notificationRepo.save(notification);
-			if (type.equals("POLL"))
-				template.convertAndSend(AppConstant.SPECIFIC_USER_TOPIC, data);
-			if (type.equals("ANNOUNCEMENT"))
-				template.convertAndSend(AppConstant.ANNOUNCEMENT_TOPIC.replace("{USER_ID}", toUserId.getId()), data);
-			if (type.equals("TASK"))
-				template.convertAndSend(AppConstant.TASK_TOPIC.replace("{USER_ID}", toUserId.getId()), data);
+			updateUnreadCounts(Collections.singletonList(toUserId.getId()), 1, notification.getDate());
+
+			String destination = destinationFor(type);
+			boolean broadcast = NotificationType.valueOf(type).isBroadcast();
+			if (destination != null && (broadcast || sessionRegistry.isConnected(toUserId.getId()))) {
+				NotificationOutbox outbox = new NotificationOutbox();
+				outbox.setRecipientId(broadcast ? null : toUserId.getId());
+				outbox.setDestination(destination);
+				outbox.setPayload(data);
+				outbox.setCreatedAt(notification.getDate());
+				outbox.setNextAttemptAt(notification.getDate());
+				outboxRepo.save(outbox);
+			}
 		} catch (Exception e) {
 			throw new AppException(e.getMessage());
 		}
 	}
 
-	public List<NotificationDto> getAllNotification(String userId) {
+	@Transactional
+	public void sendNotifications(User sender, List<User> recipients, String message, String type) {
+		if (recipients.isEmpty())
+			return;
+
 		try {
-			LocalDateTime twoDaysAgo = LocalDateTime.now().minusDays(2);
-			LocalDateTime currentDate = LocalDateTime.now();
+			LocalDateTime now = LocalDateTime.now();
+
+			UserNotificationResponseDto fromMemberResponse = new UserNotificationResponseDto();
+			fromMemberResponse.setId(sender.getId());
+			fromMemberResponse.setName(sender.getFirstName() + " " + sender.getLastName());
 
-			List<Notification> twoDayNotifications = notificationRepo
-					.findByReceiverIdAndDateBetweenAndViewStatusTrueOrderByDateDesc(userId, twoDaysAgo, currentDate);
+			NotificationDto notificationDto = new NotificationDto();
+			notificationDto.setFrom(fromMemberResponse);
+			notificationDto.setMessage(message);
+			notificationDto.setTime(now);
 
-			LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
-			List<Notification> sevenDayNotifications = notificationRepo
-					.findByReceiverIdAndDateBetweenAndViewStatusFalseOrderByDateDesc(userId, sevenDaysAgo, currentDate);
+			String data = mapper.writeValueAsString(notificationDto);
 
-			List<Notification> allNotifications = new ArrayList<>();
-			allNotifications.addAll(twoDayNotifications);
-			allNotifications.addAll(sevenDayNotifications);
+			List<String> recipientIds = recipients.stream().map(User::getId).collect(Collectors.toList());
+			notificationJdbcRepo.insertNotifications(sender.getId(), recipientIds, message, now);
+			updateUnreadCounts(recipientIds, 1, now);
+
+			List<String> outboxRecipients;
+			if (NotificationType.valueOf(type).isBroadcast()) {
+				// Every recipient is subscribed to the shared topic, so one message reaches all of them
+				outboxRecipients = Collections.singletonList(null);
+			} else {
+				// Offline users pick their notifications up from the stored rows when they next open the app
+				outboxRecipients = recipientIds.stream().filter(sessionRegistry::isConnected)
+						.collect(Collectors.toList());
+			}
+			notificationJdbcRepo.insertOutbox(outboxRecipients, destinationFor(type), data, now);
 
-			if (allNotifications.isEmpty())
-				return Collections.emptyList();
+			LOGGER.info("Stored {} {} notifications and queued {} messages", recipientIds.size(), type,
+					outboxRecipients.size());
+		} catch (Exception e) {
+			throw new AppException(e.getMessage());
+		}
+	}
 
-			allNotifications = allNotifications.stream()
-					.sorted(Comparator.comparing(Notification::isViewStatus)
-							.thenComparing(Comparator.comparing(Notification::getDate).reversed()))
-					.collect(Collectors.toList());
-			List<NotificationDto> notificationDtos = allNotifications.stream().map(e -> {
+	public WebSocketSessionStatsDto getSessionStats(String role) {
+		if (!UsersRole.ROLE_ADMIN.name().equalsIgnoreCase(role))
+			throw new UnauthorizedUserException("Only admins can view notification metrics");
 
-				NotificationDto notificationDto = new NotificationDto();
-				UserNotificationResponseDto fromMember = new UserNotificationResponseDto();
+		return sessionRegistry.getStats();
+	}
 
-				fromMember.setId(e.getSender().getId());
-				fromMember.setName(e.getSender().getFirstName() + " " + e.getSender().getLastName());
-				notificationDto.setFrom(fromMember);
+	public WebSocketBackpressureMetricsDto getWebSocketMetrics(String role) {
+		if (!UsersRole.ROLE_ADMIN.name().equalsIgnoreCase(role))
+			throw new UnauthorizedUserException("Only admins can view notification metrics");
 
-				UserNotificationResponseDto toMember = new UserNotificationResponseDto();
-				toMember.setId(e.getReceiver().getId());
-				toMember.setName(e.getReceiver().getFirstName() + " " + e.getReceiver().getLastName());
+		return backpressureMetrics.snapshot();
+	}
 
-				notificationDto.setId(e.getId());
-				notificationDto.setTo(toMember);
-				notificationDto.setViewStatus(e.isViewStatus());
-				notificationDto.setMessage(e.getMessage().toString());
-				notificationDto.setTime(e.getDate());
+	public NotificationOutboxMetricsDto getOutboxMetrics(String role) {
+		if (!UsersRole.ROLE_ADMIN.name().equalsIgnoreCase(role))
+			throw new UnauthorizedUserException("Only admins can view notification metrics");
 
-				return notificationDto;
-			}).collect(Collectors.toList());
+		return outboxDispatcher.getMetrics();
+	}
+
+	private String destinationFor(String type) {
+		if (type.equals("POLL"))
+			return AppConstant.SPECIFIC_USER_TOPIC;
+		if (type.equals("ANNOUNCEMENT"))
+			return AppConstant.ANNOUNCEMENT_QUEUE;
+		if (type.equals("TASK"))
+			return AppConstant.TASK_QUEUE;
+		return null;
+	}
+
+	public List<NotificationDto> getAllNotification(String userId) {
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			List<NotificationDto> notificationDtos = new ArrayList<>();
+			List<NotificationInboxRow> rows;
+			Boolean cursorViewed = null;
+			LocalDateTime cursorDate = null;
+			Long cursorId = null;
+			do {
+				rows = notificationRepo.findInboxPage(userId, now.minusDays(READ_WINDOW_DAYS), cursorViewed, cursorDate,
+						cursorId, PageRequest.of(0, maxInboxPageSize));
+				rows.forEach(row -> notificationDtos.add(toNotificationDto(row)));
+				if (!rows.isEmpty()) {
+					NotificationInboxRow last = rows.get(rows.size() - 1);
+					cursorViewed = last.getViewStatus();
+					cursorDate = last.getDate();
+					cursorId = last.getId();
+				}
+			} while (rows.size() == maxInboxPageSize);
 
 			return notificationDtos;
 
@@ -128,12 +247,98 @@ public class NotificationService {
 		}
 	}
 
+	public NotificationPageDto getNotificationPage(String userId, String cursor, Integer size) {
+		try {
+			int pageSize = size == null || size <= 0 ? defaultInboxPageSize : Math.min(size, maxInboxPageSize);
+
+			Boolean cursorViewed = null;
+			LocalDateTime cursorDate = null;
+			Long cursorId = null;
+			if (cursor != null && !cursor.isBlank()) {
+				String token = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+				String[] parts = token.split("\\|");
+				cursorViewed = Boolean.valueOf(parts[0]);
+				cursorDate = LocalDateTime.parse(parts[1]);
+				cursorId = Long.valueOf(parts[2]);
+			}
+
+			LocalDateTime now = LocalDateTime.now();
+			List<NotificationInboxRow> rows = notificationRepo.findInboxPage(userId, now.minusDays(READ_WINDOW_DAYS),
+					cursorViewed, cursorDate, cursorId, PageRequest.of(0, pageSize + 1));
+
+			boolean hasMore = rows.size() > pageSize;
+			if (hasMore) {
+				rows = rows.subList(0, pageSize);
+			}
+
+			NotificationPageDto page = new NotificationPageDto();
+			page.setNotifications(rows.stream().map(this::toNotificationDto).collect(Collectors.toList()));
+			if (hasMore) {
+				NotificationInboxRow last = rows.get(rows.size() - 1);
+				String token = last.getViewStatus() + "|" + last.getDate() + "|" + last.getId();
+				page.setNextCursor(
+						Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8)));
+			}
+			return page;
+
+		} catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+			LOGGER.warn("Invalid notification page request for userId: {}: {}", userId, e.getMessage());
+			throw new AppException("Invalid cursor");
+		} catch (Exception e) {
+			throw new AppException(e.getMessage());
+		}
+	}
+
+	private NotificationDto toNotificationDto(NotificationInboxRow row) {
+		NotificationDto notificationDto = new NotificationDto();
+		UserNotificationResponseDto fromMember = new UserNotificationResponseDto();
+		fromMember.setId(row.getSenderId());
+		fromMember.setName(row.getSenderFirstName() + " " + row.getSenderLastName());
+		notificationDto.setFrom(fromMember);
+
+		UserNotificationResponseDto toMember = new UserNotificationResponseDto();
+		toMember.setId(row.getReceiverId());
+		toMember.setName(row.getReceiverFirstName() + " " + row.getReceiverLastName());
+		notificationDto.setTo(toMember);
+
+		notificationDto.setId(row.getId());
+		notificationDto.setViewStatus(row.getViewStatus());
+		notificationDto.setMessage(row.getMessage());
+		notificationDto.setTime(row.getDate());
+
+		return notificationDto;
+	}
+
+	public NotificationDto toNotificationDto(Notification notification) {
+		NotificationDto notificationDto = new NotificationDto();
+		UserNotificationResponseDto fromMember = new UserNotificationResponseDto();
+
+		fromMember.setId(notification.getSender().getId());
+		fromMember.setName(notification.getSender().getFirstName() + " " + notification.getSender().getLastName());
+		notificationDto.setFrom(fromMember);
+
+		UserNotificationResponseDto toMember = new UserNotificationResponseDto();
+		toMember.setId(notification.getReceiver().getId());
+		toMember.setName(notification.getReceiver().getFirstName() + " " + notification.getReceiver().getLastName());
+
+		notificationDto.setId(notification.getId());
+		notificationDto.setTo(toMember);
+		notificationDto.setViewStatus(notification.isViewStatus());
+		notificationDto.setMessage(notification.getMessage().toString());
+		notificationDto.setTime(notification.getDate());
+
+		return notificationDto;
+	}
+
+	@Transactional
 	public List<NotificationDto> updateViewStatus(String loggedUser, long notificationId) {
 		try {
 			Notification notification = notificationRepo.findByReceiverIdAndId(loggedUser, notificationId);
 			if (notification != null) {
 				notification.setViewStatus(!notification.isViewStatus());
-				notificationRepo.save(notification);
+				notificationRepo.saveAndFlush(notification);
+				updateUnreadCounts(Collections.singletonList(loggedUser), notification.isViewStatus() ? -1 : 1,
+						LocalDateTime.now());
 				return getAllNotification(loggedUser);
 			}
 			return null;
@@ -144,4 +349,63 @@ public class NotificationService {
 		}
 	}
 
+	@Transactional
+	public NotificationStatusDeltaDto updateViewStatuses(String loggedUser, NotificationStatusRequestDto dto) {
+		try {
+			boolean viewStatus = dto.getViewStatus();
+			List<Long> changedIds;
+			if (dto.isAll()) {
+				changedIds = notificationRepo.lockAllIdsToChange(loggedUser, viewStatus);
+			} else if (dto.getNotificationIds() == null || dto.getNotificationIds().isEmpty()) {
+				throw new AppException("Notification ids are required");
+			} else {
+				changedIds = notificationRepo.lockIdsToChange(loggedUser, viewStatus, dto.getNotificationIds());
+			}
+
+			// Rows already in the requested state are left out, so the counter moves by exactly the rows changed
+			if (!changedIds.isEmpty()) {
+				notificationRepo.updateViewStatus(loggedUser, changedIds, viewStatus);
+				updateUnreadCounts(Collections.singletonList(loggedUser),
+						viewStatus ? -changedIds.size() : changedIds.size(), LocalDateTime.now());
+			}
+
+			NotificationStatusDeltaDto delta = new NotificationStatusDeltaDto();
+			delta.setChangedIds(changedIds);
+			delta.setViewStatus(viewStatus);
+			delta.setUnreadCount(getUnreadCount(loggedUser).getUnreadCount());
+			return delta;
+		} catch (Exception e) {
+			throw new AppException(e.getMessage());
+		}
+	}
+
+	public UnreadCountDto getUnreadCount(String userId) {
+		try {
+			UnreadCountDto unreadCount = new UnreadCountDto();
+			unreadCount.setUnreadCount(unreadCounterRepo.findById(userId).map(NotificationUnreadCounter::getUnreadCount)
+					.orElseGet(() -> notificationRepo.countByReceiverIdAndViewStatusFalse(userId)));
+			return unreadCount;
+		} catch (Exception e) {
+			throw new AppException(e.getMessage());
+		}
+	}
+
+	// Keeps the per-user badge counters in step with the notification rows and pushes the new value to online users
+	private void updateUnreadCounts(List<String> userIds, int delta, LocalDateTime now) throws JsonProcessingException {
+		notificationJdbcRepo.adjustUnreadCounts(userIds.stream().distinct().collect(Collectors.toList()), delta);
+
+		List<String> online = userIds.stream().distinct().filter(sessionRegistry::isConnected)
+				.collect(Collectors.toList());
+		if (online.isEmpty())
+			return;
+
+		Map<String, String> payloads = new LinkedHashMap<>();
+		for (UnreadCount count : unreadCounterRepo.findCounts(online)) {
+			UnreadCountDto unreadCount = new UnreadCountDto();
+			unreadCount.setUnreadCount(count.getUnreadCount());
+			payloads.put(count.getUserId(), mapper.writeValueAsString(unreadCount));
+		}
+		notificationJdbcRepo.insertOutboxMessages(payloads, AppConstant.UNREAD_COUNT_QUEUE, now);
+	}
+
 }
@@ -0,0 +1,228 @@
+package com.mgmt.residency.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.mgmt.residency.entity.Notification;
+import com.mgmt.residency.exception.AppException;
+import com.mgmt.residency.repository.NotificationRepository;
+
+@Service
+public class NotificationStreamService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(NotificationStreamService.class);
+
+	private static final String EVENT_NAME = "notification";
+
+	private static final String RESYNC_EVENT_NAME = "resync";
+
+	@Autowired
+	private NotificationRepository notificationRepo;
+
+	@Autowired
+	private NotificationService notificationService;
+
+	@Value("${notification.stream.timeout-ms}")
+	private long timeoutMs;
+
+	@Value("${notification.stream.replay-limit}")
+	private int replayLimit;
+
+	@Value("${notification.stream.retry-ms}")
+	private long retryMs;
+
+	@Value("${notification.stream.commit-grace-ms}")
+	private long commitGraceMs;
+
+	private final Map<String, List<Subscription>> subscriptions = new ConcurrentHashMap<>();
+
+	// IDENTITY ids are handed out at insert but become visible at commit, so a bulk fan-out can commit ids below
+	// MAX(id) after MAX(id) was read. An id is only treated as settled once it was below MAX(id) a grace period ago;
+	// everything above the frontier is re-scanned on each poll
+	private final Deque<long[]> observedMaxIds = new ArrayDeque<>();
+
+	private volatile long frontier = -1;
+
+	public SseEmitter subscribe(String userId, String lastEventId) {
+		try {
+			Subscription subscription = new Subscription(userId, new SseEmitter(timeoutMs));
+			subscription.emitter.onCompletion(() -> remove(subscription));
+			subscription.emitter.onTimeout(() -> remove(subscription));
+			subscription.emitter.onError(e -> remove(subscription));
+
+			subscription.emitter.send(SseEmitter.event().reconnectTime(retryMs).comment("connected"));
+
+			// The poller waits on the subscription so replayed and live events do not interleave
+			synchronized (subscription) {
+				subscriptions.computeIfAbsent(userId, key -> new CopyOnWriteArrayList<>()).add(subscription);
+				long resumeFrom = parseEventId(lastEventId);
+				if (resumeFrom < 0) {
+					// Older rows come from the inbox endpoints; the unsettled window above the frontier is still
+					// scanned because a lower id there may commit after the client loaded its inbox
+					subscription.floor = startFloor();
+				} else {
+					subscription.floor = resumeFrom;
+					List<Notification> missed = notificationRepo.findByReceiverAfter(userId, resumeFrom,
+							PageRequest.of(0, replayLimit));
+					for (Notification notification : missed)
+						send(subscription, notification);
+					if (missed.size() == replayLimit) {
+						// Too far behind to replay, the client reloads its inbox instead
+						subscription.emitter.send(SseEmitter.event().name(RESYNC_EVENT_NAME).data(""));
+						subscription.floor = startFloor();
+					}
+				}
+			}
+
+			return subscription.emitter;
+		} catch (Exception e) {
+			throw new AppException(e.getMessage());
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${notification.stream.poll-interval-ms}")
+	public void pushNew() {
+		try {
+			long upTo = notificationRepo.findMaxId();
+			long scanFrom = advanceFrontier(upTo, System.currentTimeMillis());
+			if (subscriptions.isEmpty() || upTo <= scanFrom)
+				return;
+
+			// The unsettled window is scanned in full each time; ids already sent to a subscription are skipped
+			long after = scanFrom;
+			List<Notification> created;
+			do {
+				created = notificationRepo.findByReceiversBetween(subscriptions.keySet(), after, upTo,
+						PageRequest.of(0, replayLimit));
+				for (Notification notification : created) {
+					List<Subscription> userSubscriptions = subscriptions.get(notification.getReceiver().getId());
+					if (userSubscriptions == null)
+						continue;
+					for (Subscription subscription : userSubscriptions) {
+						synchronized (subscription) {
+							if (notification.getId() > subscription.floor
+									&& !subscription.sentIds.contains(notification.getId()))
+								send(subscription, notification);
+						}
+					}
+				}
+				if (!created.isEmpty())
+					after = created.get(created.size() - 1).getId();
+			} while (created.size() == replayLimit);
+
+			long settled = frontier;
+			for (List<Subscription> userSubscriptions : subscriptions.values()) {
+				for (Subscription subscription : userSubscriptions) {
+					synchronized (subscription) {
+						subscription.sentIds.removeIf(id -> id <= settled);
+					}
+				}
+			}
+		} catch (Exception e) {
+			LOGGER.error("Failed to push notification stream events: {}", e.getMessage(), e);
+		}
+	}
+
+	// The same resume point send() uses for event ids; rows already sent are skipped through sentIds
+	private long startFloor() {
+		long maxId = notificationRepo.findMaxId();
+		return frontier < 0 ? maxId : Math.min(maxId, frontier);
+	}
+
+	// Returns the frontier before this call, so rows that settle now still get one last scan
+	private synchronized long advanceFrontier(long maxId, long now) {
+		long previous = frontier;
+		if (frontier < 0) {
+			frontier = maxId;
+			return maxId;
+		}
+
+		if (observedMaxIds.isEmpty() || observedMaxIds.peekLast()[1] < maxId)
+			observedMaxIds.addLast(new long[] { now, maxId });
+		while (!observedMaxIds.isEmpty() && observedMaxIds.peekFirst()[0] <= now - commitGraceMs)
+			frontier = Math.max(frontier, observedMaxIds.pollFirst()[1]);
+		return previous;
+	}
+
+	@Scheduled(fixedDelayString = "${notification.stream.heartbeat-ms}")
+	public void heartbeat() {
+		for (List<Subscription> userSubscriptions : subscriptions.values()) {
+			for (Subscription subscription : userSubscriptions) {
+				try {
+					subscription.emitter.send(SseEmitter.event().comment("heartbeat"));
+				} catch (IOException | IllegalStateException e) {
+					subscription.emitter.completeWithError(e);
+					remove(subscription);
+				}
+			}
+		}
+	}
+
+	private void send(Subscription subscription, Notification notification) {
+		try {
+			// The event id is a resume point: a lower id may still commit above the frontier, so unsettled rows
+			// carry the frontier and a reconnect replays from there. Clients de-duplicate by notification id
+			long eventId = frontier < 0 ? notification.getId() : Math.min(notification.getId(), frontier);
+			subscription.emitter.send(SseEmitter.event().id(String.valueOf(eventId)).name(EVENT_NAME)
+					.data(notificationService.toNotificationDto(notification), MediaType.APPLICATION_JSON));
+			subscription.sentIds.add(notification.getId());
+		} catch (IOException | IllegalStateException e) {
+			LOGGER.debug("Dropping notification stream for user {}: {}", subscription.userId, e.getMessage());
+			subscription.emitter.completeWithError(e);
+			remove(subscription);
+		}
+	}
+
+	private void remove(Subscription subscription) {
+		subscriptions.computeIfPresent(subscription.userId, (key, userSubscriptions) -> {
+			userSubscriptions.remove(subscription);
+			return userSubscriptions.isEmpty() ? null : userSubscriptions;
+		});
+	}
+
+	private long parseEventId(String lastEventId) {
+		if (!StringUtils.hasText(lastEventId))
+			return -1;
+		try {
+			return Math.max(0, Long.parseLong(lastEventId.trim()));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private static class Subscription {
+
+		private final String userId;
+
+		private final SseEmitter emitter;
+
+		private long floor;
+
+		private final Set<Long> sentIds = new HashSet<>();
+
+		Subscription(String userId, SseEmitter emitter) {
+			this.userId = userId;
+			this.emitter = emitter;
+		}
+
+	}
+
+}
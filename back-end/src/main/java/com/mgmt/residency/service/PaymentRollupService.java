@@ -0,0 +1,144 @@
+package com.mgmt.residency.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mgmt.residency.constants.PaymentType;
+import com.mgmt.residency.entity.Payment;
+import com.mgmt.residency.entity.PaymentDailyRollup;
+import com.mgmt.residency.entity.UserPayment;
+import com.mgmt.residency.entity.UserPaymentBalance;
+import com.mgmt.residency.repository.PaymentDailyRollupRepository;
+import com.mgmt.residency.repository.PaymentDailyRollupRepository.DailyTotal;
+import com.mgmt.residency.repository.PaymentJdbcRepository;
+import com.mgmt.residency.repository.PaymentRepository;
+import com.mgmt.residency.repository.UserPaymentBalanceRepository;
+
+import jakarta.annotation.PostConstruct;
+
+@Service
+public class PaymentRollupService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PaymentRollupService.class);
+
+	@Autowired
+	private PaymentDailyRollupRepository rollupRepo;
+
+	@Autowired
+	private UserPaymentBalanceRepository balanceRepo;
+
+	@Autowired
+	private PaymentRepository paymentRepo;
+
+	@Autowired
+	private PaymentJdbcRepository paymentJdbcRepo;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Transactional
+	public void record(Payment payment) {
+		recordAll(List.of(payment));
+	}
+
+	@Transactional
+	public void recordAll(List<Payment> payments) {
+		Map<String, PaymentDailyRollup> rollups = new LinkedHashMap<>();
+		Map<String, UserPaymentBalance> balances = new LinkedHashMap<>();
+
+		for (Payment payment : payments) {
+			LocalDate rollupDate = payment.getCreatedAt().toLocalDate();
+
+			if (PaymentType.INCOME.name().equals(payment.getType())) {
+				for (UserPayment userPayment : payment.getUsers()) {
+					String userId = userPayment.getUser().getId();
+					addRollup(rollups, rollupDate, userId, PaymentType.INCOME, userPayment.getAmount());
+					UserPaymentBalance balance = balanceFor(balances, userId);
+					balance.setTotalIncomeShare(balance.getTotalIncomeShare() + userPayment.getAmount());
+				}
+			} else {
+				String userId = payment.getCreatedBy().getId();
+				addRollup(rollups, rollupDate, userId, PaymentType.EXPENSE, payment.getAmount());
+				UserPaymentBalance balance = balanceFor(balances, userId);
+				balance.setTotalExpense(balance.getTotalExpense() + payment.getAmount());
+			}
+
+			if (payment.getTask() != null && payment.getTask().getAssignedTo() != null) {
+				UserPaymentBalance balance = balanceFor(balances, payment.getTask().getAssignedTo().getId());
+				balance.setTotalTaskPayout(balance.getTotalTaskPayout() + payment.getAmount());
+			}
+		}
+
+		paymentJdbcRepo.accumulateRollups(new ArrayList<>(rollups.values()));
+		paymentJdbcRepo.accumulateBalances(new ArrayList<>(balances.values()));
+	}
+
+	private void addRollup(Map<String, PaymentDailyRollup> rollups, LocalDate rollupDate, String userId,
+			PaymentType type, double amount) {
+		PaymentDailyRollup rollup = rollups.computeIfAbsent(rollupDate + "|" + userId + "|" + type.name(), key -> {
+			PaymentDailyRollup row = new PaymentDailyRollup();
+			row.setRollupDate(rollupDate);
+			row.setUserId(userId);
+			row.setPaymentType(type.name());
+			return row;
+		});
+		rollup.setAmount(rollup.getAmount() + amount);
+	}
+
+	private UserPaymentBalance balanceFor(Map<String, UserPaymentBalance> balances, String userId) {
+		return balances.computeIfAbsent(userId, key -> {
+			UserPaymentBalance balance = new UserPaymentBalance();
+			balance.setUserId(userId);
+			return balance;
+		});
+	}
+
+	public UserPaymentBalance getBalance(String userId) {
+		return balanceRepo.findById(userId).orElse(null);
+	}
+
+	public List<DailyTotal> getTotals(LocalDate fromDate, LocalDate toDate) {
+		return rollupRepo.sumByDayBetween(fromDate, toDate);
+	}
+
+	public List<DailyTotal> getTotalsForUser(String userId, LocalDate fromDate, LocalDate toDate) {
+		return rollupRepo.findByUserIdAndDayBetween(userId, fromDate, toDate);
+	}
+
+	// Runs during startup, before the web server takes traffic, so no payment can create a rollup row between the
+	// empty checks and the rebuild; the rollup rebuild also upserts in case another node posts meanwhile
+	@PostConstruct
+	public void rebuildIfEmpty() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			if (paymentRepo.count() == 0) {
+				return;
+			}
+
+			if (rollupRepo.count() == 0) {
+				int incomeRows = rollupRepo.rebuildIncomeRollups();
+				int expenseRows = rollupRepo.rebuildExpenseRollups();
+				LOGGER.info("Payment daily rollups rebuilt from ledger: {} income rows, {} expense rows", incomeRows,
+						expenseRows);
+			}
+
+			if (balanceRepo.count() == 0) {
+				balanceRepo.rebuildIncomeShares();
+				balanceRepo.rebuildExpenses();
+				balanceRepo.rebuildTaskPayouts();
+				LOGGER.info("User payment balances rebuilt from ledger: {} users", balanceRepo.count());
+			}
+		});
+	}
+
+}
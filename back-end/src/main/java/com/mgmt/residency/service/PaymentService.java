@@ -1,25 +1,35 @@
 package com.mgmt.residency.service;
 
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Base64;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mgmt.residency.constants.AppConstant;
 import com.mgmt.residency.constants.PaymentType;
 import com.mgmt.residency.constants.TaskStatus;
 import com.mgmt.residency.constants.UsersRole;
@@ -29,21 +39,29 @@ import com.mgmt.residency.entity.PaymentSummary;
 import com.mgmt.residency.entity.Task;
 import com.mgmt.residency.entity.User;
 import com.mgmt.residency.entity.UserPayment;
+import com.mgmt.residency.entity.UserPaymentBalance;
 import com.mgmt.residency.exception.AppException;
 import com.mgmt.residency.exception.NotFoundException;
+import com.mgmt.residency.repository.PaymentDailyRollupRepository.DailyTotal;
+import com.mgmt.residency.repository.PaymentJdbcRepository;
 import com.mgmt.residency.repository.PaymentRepository;
-import com.mgmt.residency.repository.PaymentSummaryRepository;
+import com.mgmt.residency.repository.PaymentRepository.PaymentAmount;
 import com.mgmt.residency.repository.TaskRepository;
 import com.mgmt.residency.repository.UserRepository;
+import com.mgmt.residency.request.dto.BulkIncomePaymentRequestDto;
 import com.mgmt.residency.request.dto.ExpensePaymentRequestDto;
 import com.mgmt.residency.request.dto.IncomePaymentRequestDto;
+import com.mgmt.residency.response.dto.BulkIncomePaymentResponseDto;
 import com.mgmt.residency.response.dto.FileMetadataDto;
 import com.mgmt.residency.response.dto.OverallPaymentDto;
+import com.mgmt.residency.response.dto.OverallPaymentPageDto;
 import com.mgmt.residency.response.dto.PaymentDetailsResponseDto;
 import com.mgmt.residency.response.dto.PaymentResponseDto;
 import com.mgmt.residency.response.dto.TaskResponseDto;
 import com.mgmt.residency.response.dto.UserPaymentDto;
 import com.mgmt.residency.response.dto.UserResponseDto;
+import com.mgmt.residency.storage.ReceiptStorage;
+import com.mgmt.residency.storage.StoredReceipt;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
@@ -67,10 +85,26 @@ public class PaymentService {
 	private Validator validator;
 
 	@Autowired
-	private PaymentSummaryRepository paymentSummaryRepo;
+	private PaymentRollupService paymentRollupService;
+
+	@Autowired
+	private PaymentSummaryService paymentSummaryService;
+
+	@Autowired
+	private PaymentJdbcRepository paymentJdbcRepo;
+
+	@Autowired
+	private ReceiptStorage receiptStorage;
+
+	@Value("${payment.feed.default-page-size}")
+	private int defaultFeedPageSize;
+
+	@Value("${payment.feed.max-page-size}")
+	private int maxFeedPageSize;
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(PaymentService.class);
 
+	@Transactional
 	public Payment createIncomePayment(String userId, IncomePaymentRequestDto dto) {
 		try {
 			User creator = userRepo.findByIdAndRoleNot(userId, UsersRole.ROLE_GUEST.name());
@@ -105,9 +139,11 @@ public class PaymentService {
 
 			payment.setUsers(userPayments);
 
-			updateSummary(payment, dto.getAmount(), PaymentType.INCOME);
+			paymentSummaryService.attach(payment);
 
 			paymentRepo.save(payment);
+			paymentRollupService.record(payment);
+			paymentSummaryService.applyPayment(payment);
 			return payment;
 
 		} catch (Exception e) {
@@ -116,6 +152,69 @@ public class PaymentService {
 		}
 	}
 
+	@Transactional
+	public BulkIncomePaymentResponseDto createIncomePayments(String userId, BulkIncomePaymentRequestDto dto) {
+		try {
+			User creator = userRepo.findByIdAndRoleNot(userId, UsersRole.ROLE_GUEST.name());
+			if (creator == null)
+				throw new NotFoundException("User not found");
+
+			Set<String> userIds = dto.getPayments().stream().flatMap(p -> p.getUserIds().stream())
+					.collect(Collectors.toSet());
+			Map<String, User> usersById = userRepo.findAllById(userIds).stream()
+					.collect(Collectors.toMap(User::getId, Function.identity()));
+			if (usersById.size() != userIds.size())
+				throw new NotFoundException("Some users not found");
+
+			LocalDateTime now = LocalDateTime.now();
+			List<Payment> payments = new ArrayList<>();
+			List<UserPayment> userPayments = new ArrayList<>();
+			double totalAmount = 0.0;
+
+			for (IncomePaymentRequestDto incomeDto : dto.getPayments()) {
+				Payment payment = new Payment();
+				payment.setType(PaymentType.INCOME.name());
+				payment.setAmount(incomeDto.getAmount());
+				payment.setDescription(incomeDto.getDescription());
+				payment.setCreatedBy(creator);
+				payment.setCreatedAt(now);
+				paymentSummaryService.attach(payment);
+
+				double perUserAmount = incomeDto.getAmount() / incomeDto.getUserIds().size();
+				List<UserPayment> shares = incomeDto.getUserIds().stream().map(id -> {
+					UserPayment up = new UserPayment();
+					up.setUser(usersById.get(id));
+					up.setPayment(payment);
+					up.setCreatedAt(now);
+					up.setAmount(perUserAmount);
+					return up;
+				}).collect(Collectors.toList());
+
+				payment.setUsers(shares);
+				payments.add(payment);
+				userPayments.addAll(shares);
+				totalAmount += incomeDto.getAmount();
+			}
+
+			paymentJdbcRepo.insertPayments(payments);
+			paymentJdbcRepo.insertUserPayments(userPayments);
+			paymentRollupService.recordAll(payments);
+			paymentSummaryService.applyTotals(totalAmount, 0.0);
+
+			LOGGER.info("Bulk income posted: {} payments, {} user payments", payments.size(), userPayments.size());
+
+			BulkIncomePaymentResponseDto response = new BulkIncomePaymentResponseDto();
+			response.setPaymentIds(payments.stream().map(Payment::getId).collect(Collectors.toList()));
+			response.setUserPaymentCount(userPayments.size());
+			return response;
+
+		} catch (Exception e) {
+			LOGGER.error("Error creating bulk income payments: {}", e.getMessage(), e);
+			throw new AppException(e.getMessage());
+		}
+	}
+
+	@Transactional
 	public Payment createExpensePayment(String userId, String paymentDetails, MultipartFile[] files) {
 		try {
 			LOGGER.debug("Parsing expense payment details for userId: {}", userId);
@@ -157,15 +256,20 @@ public class PaymentService {
 				FileMetadata metadata = new FileMetadata();
 				metadata.setFileName(file.getOriginalFilename());
 				metadata.setFileType(file.getContentType());
-				metadata.setFileSize(file.getSize());
-				metadata.setReceiptFile(file.getBytes());
+				try (ReadableByteChannel channel = Channels.newChannel(file.getInputStream())) {
+					StoredReceipt stored = receiptStorage.store(channel);
+					metadata.setContentHash(stored.getContentHash());
+					metadata.setFileSize(stored.getSize());
+				}
 				metadataList.add(metadata);
 			}
 			payment.setFileMetadatas(metadataList);
 
-			updateSummary(payment, dto.getAmount(), PaymentType.EXPENSE);
+			paymentSummaryService.attach(payment);
 
 			paymentRepo.save(payment);
+			paymentRollupService.record(payment);
+			paymentSummaryService.applyPayment(payment);
 			LOGGER.info("Expense payment created successfully with ID: {}", payment.getId());
 			return payment;
 
@@ -175,28 +279,6 @@ public class PaymentService {
 		}
 	}
 
-	private void updateSummary(Payment payment, double amount, PaymentType type) {
-		PaymentSummary summary = paymentSummaryRepo.findTopByOrderByCreatedAtDesc();
-		if (summary == null) {
-			summary = new PaymentSummary();
-			summary.setCreatedAt(LocalDateTime.now());
-			summary.setTotalIncome(0.0);
-			summary.setTotalExpense(0.0);
-			summary.setPayments(new ArrayList<>());
-		}
-
-		if (type == PaymentType.INCOME) {
-			summary.setTotalIncome(summary.getTotalIncome() + amount);
-		} else {
-			summary.setTotalIncome(summary.getTotalIncome() - amount);
-			summary.setTotalExpense(summary.getTotalExpense() + amount);
-		}
-
-		summary.setUpdatedAt(LocalDateTime.now());
-		payment.setPaymentSummary(summary);
-		summary.getPayments().add(payment);
-	}
-
 	private UserResponseDto toUserResponseDto(User user) {
 		UserResponseDto dto = new UserResponseDto();
 		dto.setId(user.getId());
@@ -210,70 +292,44 @@ public class PaymentService {
 		LOGGER.info("Fetching payment details grouped by day for last 10 days. userId: {}, role: {}", userId, role);
 
 		try {
-			List<Payment> payments;
-
-			if (UsersRole.ROLE_GUEST.name().equalsIgnoreCase(role)) {
-				payments = paymentRepo.findByTypeAndTaskAssignedToId(PaymentType.EXPENSE.name(), userId);
-			} else if (UsersRole.ROLE_ADMIN.name().equalsIgnoreCase(role)) {
-				payments = paymentRepo.findAll();
-			} else {
-				payments = paymentRepo.findByCreatedByIdOrUsersUserId(userId, userId);
-			}
-
-			if (payments.isEmpty()) {
-				return Collections.emptyList();
-			}
-
-			ZoneId zoneId = ZoneId.systemDefault();
-			LocalDate today = LocalDate.now(zoneId);
+			LocalDate today = LocalDate.now(ZoneId.systemDefault());
 			LocalDate fromDate = today.minusDays(9);
 
-			List<Payment> recentPayments = payments.stream().filter(p -> {
-				LocalDate paymentDate = p.getCreatedAt().atZone(zoneId).toLocalDate();
-				return !paymentDate.isBefore(fromDate) && !paymentDate.isAfter(today);
-			}).collect(Collectors.toList());
-
-			Map<LocalDate, List<Payment>> paymentsByDate = recentPayments.stream()
-					.collect(Collectors.groupingBy(p -> p.getCreatedAt().atZone(zoneId).toLocalDate()));
-
-			List<PaymentDetailsResponseDto> results = new ArrayList<>();
-
+			Map<LocalDate, PaymentDetailsResponseDto> results = new LinkedHashMap<>();
 			for (int i = 0; i < 10; i++) {
 				LocalDate date = fromDate.plusDays(i);
-				List<Payment> dayPayments = paymentsByDate.getOrDefault(date, Collections.emptyList());
-				double totalIncome = 0.0;
-				double totalExpense = 0.0;
-				if (!dayPayments.isEmpty()) {
-					if (UsersRole.ROLE_ADMIN.name().equalsIgnoreCase(role)) {
-						totalIncome = dayPayments.stream().filter(p -> PaymentType.INCOME.name().equals(p.getType()))
-								.mapToDouble(Payment::getAmount).sum();
-						totalExpense = dayPayments.stream().filter(p -> PaymentType.EXPENSE.name().equals(p.getType()))
-								.mapToDouble(Payment::getAmount).sum();
-					} else if (UsersRole.ROLE_RESIDENT.name().equalsIgnoreCase(role)) {
-						totalIncome = dayPayments.stream().filter(p -> PaymentType.INCOME.name().equals(p.getType()))
-								.flatMap(p -> {
-									if (p.getUsers() == null)
-										return Stream.empty();
-									return p.getUsers().stream()
-											.filter(up -> up.getUser() != null && up.getUser().getId().equals(userId))
-											.map(UserPayment::getAmount);
-								}).mapToDouble(Double::doubleValue).sum();
-						totalExpense = dayPayments.stream().filter(p -> PaymentType.EXPENSE.name().equals(p.getType()))
-								.mapToDouble(Payment::getAmount).sum();
-					} else {
-						totalIncome = dayPayments.stream().filter(p -> PaymentType.EXPENSE.name().equals(p.getType()))
-								.mapToDouble(Payment::getAmount).sum();
-					}
-				}
 				PaymentDetailsResponseDto dto = new PaymentDetailsResponseDto();
 				dto.setDate(date);
-				dto.setTotalIncome(totalIncome);
-				dto.setTotalExpense(totalExpense);
+				results.put(date, dto);
+			}
+
+			if (UsersRole.ROLE_GUEST.name().equalsIgnoreCase(role)) {
+				List<PaymentAmount> payments = paymentRepo.findTaskPayoutAmounts(PaymentType.EXPENSE.name(), userId,
+						fromDate.atStartOfDay(), today.plusDays(1).atStartOfDay());
+				for (PaymentAmount payment : payments) {
+					PaymentDetailsResponseDto dto = results.get(payment.getCreatedAt().toLocalDate());
+					if (dto != null)
+						dto.setTotalIncome(dto.getTotalIncome() + payment.getAmount());
+				}
+				return new ArrayList<>(results.values());
+			}
 
-				results.add(dto);
+			List<DailyTotal> totals = UsersRole.ROLE_ADMIN.name().equalsIgnoreCase(role)
+					? paymentRollupService.getTotals(fromDate, today)
+					: paymentRollupService.getTotalsForUser(userId, fromDate, today);
+
+			for (DailyTotal total : totals) {
+				PaymentDetailsResponseDto dto = results.get(total.getRollupDate());
+				if (dto == null)
+					continue;
+				if (PaymentType.INCOME.name().equals(total.getPaymentType())) {
+					dto.setTotalIncome(dto.getTotalIncome() + total.getAmount());
+				} else if (PaymentType.EXPENSE.name().equals(total.getPaymentType())) {
+					dto.setTotalExpense(dto.getTotalExpense() + total.getAmount());
+				}
 			}
 
-			return results;
+			return new ArrayList<>(results.values());
 
 		} catch (Exception e) {
 			LOGGER.error("Failed to fetch payment details grouped by day: {}", e.getMessage(), e);
@@ -285,50 +341,29 @@ public class PaymentService {
 		LOGGER.info("Fetching payment overview for userId: {}, role: {}", userId, role);
 
 		try {
-			PaymentSummary summary = paymentSummaryRepo.findTopByOrderByCreatedAtDesc();
+			PaymentSummary summary = paymentSummaryService.getCurrentSummary();
 			if (summary == null) {
 				LOGGER.info("No payment summary found.");
 				return new PaymentResponseDto();
 			}
 
-			if (UsersRole.ROLE_GUEST.name().equalsIgnoreCase(role)) {
-				List<Payment> payments = paymentRepo.findByTaskAssignedToId(userId);
-
-				double totalIncome = payments.stream().mapToDouble(Payment::getAmount).sum();
+			UserPaymentBalance balance = paymentRollupService.getBalance(userId);
 
-				PaymentResponseDto dto = new PaymentResponseDto();
+			PaymentResponseDto dto = new PaymentResponseDto();
+			if (UsersRole.ROLE_GUEST.name().equalsIgnoreCase(role)) {
 				dto.setTotalIncome(0.0);
 				dto.setTotalExpense(0.0);
-				dto.setUserTotalIncome(totalIncome);
+				dto.setUserTotalIncome(balance == null ? 0.0 : balance.getTotalTaskPayout());
 				dto.setUserTotalExpense(0.0);
 
 				LOGGER.info("Payment overview fetched successfully for guest userId: {}", userId);
 				return dto;
 			}
 
-			List<Payment> payments = summary.getPayments().stream()
-					.filter(p -> (p.getCreatedBy() != null && p.getCreatedBy().getId().equals(userId))
-							|| (p.getUsers() != null && p.getUsers().stream()
-									.anyMatch(up -> up.getUser() != null && up.getUser().getId().equals(userId))))
-					.toList();
-
-			double userTotalIncome = payments.stream().filter(p -> PaymentType.INCOME.name().equals(p.getType()))
-					.mapToDouble(p -> {
-						if (p.getUsers() == null)
-							return 0.0;
-						return p.getUsers().stream()
-								.filter(up -> up.getUser() != null && up.getUser().getId().equals(userId))
-								.mapToDouble(UserPayment::getAmount).sum();
-					}).sum();
-
-			double userTotalExpense = payments.stream().filter(p -> PaymentType.EXPENSE.name().equals(p.getType()))
-					.mapToDouble(Payment::getAmount).sum();
-
-			PaymentResponseDto dto = new PaymentResponseDto();
 			dto.setTotalIncome(summary.getTotalIncome());
 			dto.setTotalExpense(summary.getTotalExpense());
-			dto.setUserTotalIncome(userTotalIncome);
-			dto.setUserTotalExpense(userTotalExpense);
+			dto.setUserTotalIncome(balance == null ? 0.0 : balance.getTotalIncomeShare());
+			dto.setUserTotalExpense(balance == null ? 0.0 : balance.getTotalExpense());
 
 			LOGGER.info("Payment overview fetched successfully for userId: {}", userId);
 			return dto;
@@ -339,6 +374,7 @@ public class PaymentService {
 		}
 	}
 
+	@Transactional(readOnly = true)
 	public List<OverallPaymentDto> getCombinedPayments(String userId, String role) {
 		LOGGER.info("Fetching combined payments for userId: {} with role: {}", userId, role);
 
@@ -346,12 +382,13 @@ public class PaymentService {
 			List<Payment> payments;
 
 			if (UsersRole.ROLE_ADMIN.name().equalsIgnoreCase(role)) {
-				payments = paymentRepo.findAll();
+				payments = paymentRepo.findAllForFeed();
 			} else if (UsersRole.ROLE_GUEST.name().equalsIgnoreCase(role)) {
-				payments = paymentRepo.findByTypeAndTaskAssignedToId(PaymentType.EXPENSE.name(), userId);
+				payments = paymentRepo.findGuestFeed(userId);
 			} else {
-				payments = paymentRepo.findByCreatedByIdOrUsersUserId(userId, userId);
+				payments = paymentRepo.findResidentFeed(userId);
 			}
+			fetchCollections(payments);
 
 			if (UsersRole.ROLE_GUEST.name().equalsIgnoreCase(role)) {
 				return payments.stream().map(payment -> {
@@ -383,6 +420,72 @@ public class PaymentService {
 		}
 	}
 
+	@Transactional(readOnly = true)
+	public OverallPaymentPageDto getCombinedPaymentsPage(String userId, String role, String cursor, Integer size,
+			String type, LocalDate fromDate, LocalDate toDate) {
+		LOGGER.info("Fetching combined payments page for userId: {} with role: {}, cursor: {}", userId, role, cursor);
+
+		try {
+			int pageSize = size == null || size <= 0 ? defaultFeedPageSize : Math.min(size, maxFeedPageSize);
+			String paymentType = type == null || type.isBlank() ? null : PaymentType.valueOf(type.toUpperCase()).name();
+			LocalDateTime from = fromDate == null ? null : fromDate.atStartOfDay();
+			LocalDateTime to = toDate == null ? null : toDate.plusDays(1).atStartOfDay();
+
+			LocalDateTime cursorCreatedAt = null;
+			Long cursorId = null;
+			if (cursor != null && !cursor.isBlank()) {
+				String token = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+				String[] parts = token.split("\\|");
+				cursorCreatedAt = LocalDateTime.parse(parts[0]);
+				cursorId = Long.valueOf(parts[1]);
+			}
+
+			Pageable pageable = PageRequest.of(0, pageSize + 1);
+			List<Payment> payments;
+			if (UsersRole.ROLE_ADMIN.name().equalsIgnoreCase(role)) {
+				payments = paymentRepo.findFeedPage(paymentType, from, to, cursorCreatedAt, cursorId, pageable);
+			} else if (UsersRole.ROLE_GUEST.name().equalsIgnoreCase(role)) {
+				payments = paymentRepo.findGuestFeedPage(userId, from, to, cursorCreatedAt, cursorId, pageable);
+			} else {
+				payments = paymentRepo.findResidentFeedPage(userId, paymentType, from, to, cursorCreatedAt, cursorId,
+						pageable);
+			}
+
+			boolean hasMore = payments.size() > pageSize;
+			if (hasMore) {
+				payments = payments.subList(0, pageSize);
+			}
+			fetchCollections(payments);
+
+			OverallPaymentPageDto page = new OverallPaymentPageDto();
+			page.setPayments(payments.stream().map(p -> convertToOverallPaymentDto(p, userId, role))
+					.collect(Collectors.toList()));
+			if (hasMore) {
+				Payment last = payments.get(payments.size() - 1);
+				String token = last.getCreatedAt() + "|" + last.getId();
+				page.setNextCursor(
+						Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8)));
+			}
+			return page;
+
+		} catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+			LOGGER.warn("Invalid combined payments page request for userId: {}: {}", userId, e.getMessage());
+			throw new AppException("Invalid cursor or filter");
+		} catch (Exception e) {
+			LOGGER.error("Failed to fetch combined payments page for userId: {}", userId, e);
+			throw new AppException("Failed to fetch combined payments");
+		}
+	}
+
+	private void fetchCollections(List<Payment> payments) {
+		if (payments.isEmpty())
+			return;
+
+		List<Long> paymentIds = payments.stream().map(Payment::getId).collect(Collectors.toList());
+		paymentRepo.fetchUsersByIdIn(paymentIds);
+		paymentRepo.fetchFileMetadatasByIdIn(paymentIds);
+	}
+
 	private OverallPaymentDto convertToOverallPaymentDto(Payment payment, String userid, String role) {
 		OverallPaymentDto dto = new OverallPaymentDto();
 		dto.setId(payment.getId());
@@ -473,7 +576,8 @@ public class PaymentService {
 		dto.setId(fileMetadata.getId());
 		dto.setFileName(fileMetadata.getFileName());
 		dto.setFileType(fileMetadata.getFileType());
-		dto.setReceiptFile(fileMetadata.getReceiptFile());
+		dto.setDownloadUrl(
+				AppConstant.RECEIPT_DOWNLOAD_PATH.replace("{FILE_ID}", String.valueOf(fileMetadata.getId())));
 		dto.setFileSize(fileMetadata.getFileSize());
 
 		return dto;
@@ -0,0 +1,94 @@
+package com.mgmt.residency.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mgmt.residency.constants.PaymentType;
+import com.mgmt.residency.entity.Payment;
+import com.mgmt.residency.entity.PaymentSummary;
+import com.mgmt.residency.repository.PaymentSummaryRepository;
+
+import jakarta.annotation.PostConstruct;
+
+@Service
+public class PaymentSummaryService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PaymentSummaryService.class);
+
+	@Autowired
+	private PaymentSummaryRepository paymentSummaryRepo;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate newTransaction;
+
+	private volatile Long currentSummaryId;
+
+	@PostConstruct
+	public void init() {
+		newTransaction = new TransactionTemplate(transactionManager);
+		newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	public void attach(Payment payment) {
+		payment.setPaymentSummary(paymentSummaryRepo.getReferenceById(currentSummaryId()));
+	}
+
+	public void applyPayment(Payment payment) {
+		double amount = payment.getAmount();
+		boolean income = PaymentType.INCOME.name().equals(payment.getType());
+		double incomeDelta = income ? amount : -amount;
+		double expenseDelta = income ? 0.0 : amount;
+
+		paymentSummaryRepo.applyDelta(payment.getPaymentSummary().getId(), incomeDelta, expenseDelta,
+				LocalDateTime.now());
+	}
+
+	public void applyTotals(double incomeDelta, double expenseDelta) {
+		paymentSummaryRepo.applyDelta(currentSummaryId(), incomeDelta, expenseDelta, LocalDateTime.now());
+	}
+
+	// Read-only: the summary row is only created by the first payment, so a GET before that returns null (zero totals)
+	public PaymentSummary getCurrentSummary() {
+		Long summaryId = currentSummaryId;
+		if (summaryId != null)
+			return paymentSummaryRepo.findById(summaryId).orElse(null);
+
+		return paymentSummaryRepo.findTopByOrderByCreatedAtDesc();
+	}
+
+	private Long currentSummaryId() {
+		Long summaryId = currentSummaryId;
+		if (summaryId != null)
+			return summaryId;
+
+		synchronized (this) {
+			if (currentSummaryId == null) {
+				currentSummaryId = newTransaction.execute(status -> {
+					PaymentSummary summary = paymentSummaryRepo.findTopByOrderByCreatedAtDesc();
+					if (summary == null) {
+						summary = new PaymentSummary();
+						summary.setCreatedAt(LocalDateTime.now());
+						summary.setTotalIncome(0.0);
+						summary.setTotalExpense(0.0);
+						summary.setPayments(new ArrayList<>());
+						summary = paymentSummaryRepo.save(summary);
+						LOGGER.info("Created payment summary with ID: {}", summary.getId());
+					}
+					return summary.getId();
+				});
+			}
+			return currentSummaryId;
+		}
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.mgmt.residency.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mgmt.residency.constants.AppConstant;
+import com.mgmt.residency.response.dto.PollResultDeltaDto;
+
+@Service
+public class PollResultPublisher {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PollResultPublisher.class);
+
+	@Autowired
+	private SimpMessagingTemplate template;
+
+	@Autowired
+	private PollTallyService pollTallyService;
+
+	private final Map<Long, Map<String, Long>> pending = new ConcurrentHashMap<>();
+
+	public void recordVote(Long pollId, String previousOption, String selectedOption) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			// Only committed votes are published
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					accumulate(pollId, previousOption, selectedOption);
+				}
+			});
+		} else {
+			accumulate(pollId, previousOption, selectedOption);
+		}
+	}
+
+	// Runs once per interval, so each poll gets at most one message per interval however many votes arrived
+	@Scheduled(fixedDelayString = "${poll.results.push-interval-ms}")
+	public void publishPending() {
+		if (pending.isEmpty())
+			return;
+
+		try {
+			Map<Long, Map<String, Long>> deltas = new HashMap<>();
+			for (Long pollId : new ArrayList<>(pending.keySet())) {
+				Map<String, Long> pollDeltas = pending.remove(pollId);
+				if (pollDeltas != null)
+					deltas.put(pollId, pollDeltas);
+			}
+
+			Map<Long, Map<String, Long>> tallies = pollTallyService.getTallies(List.copyOf(deltas.keySet()));
+			deltas.forEach((pollId, pollDeltas) -> {
+				Map<String, Long> tally = tallies.getOrDefault(pollId, Collections.emptyMap());
+
+				PollResultDeltaDto message = new PollResultDeltaDto();
+				message.setPollId(pollId);
+				message.setDeltas(pollDeltas);
+				message.setTallies(tally);
+				message.setVoteCount(tally.values().stream().mapToLong(Long::longValue).sum());
+				template.convertAndSend(String.format(AppConstant.POLL_RESULTS_TOPIC, pollId), message);
+			});
+		} catch (Exception e) {
+			LOGGER.error("Failed to publish poll results: {}", e.getMessage(), e);
+		}
+	}
+
+	private void accumulate(Long pollId, String previousOption, String selectedOption) {
+		// compute() holds the map entry while merging, so a concurrent publishPending cannot drop a delta
+		pending.compute(pollId, (key, pollDeltas) -> {
+			Map<String, Long> merged = pollDeltas == null ? new HashMap<>() : pollDeltas;
+			merged.merge(selectedOption, 1L, Long::sum);
+			if (previousOption != null)
+				merged.merge(previousOption, -1L, Long::sum);
+			return merged;
+		});
+	}
+
+}
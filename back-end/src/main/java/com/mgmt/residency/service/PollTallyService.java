@@ -0,0 +1,81 @@
+package com.mgmt.residency.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mgmt.residency.repository.PollOptionTallyRepository;
+import com.mgmt.residency.repository.PollOptionTallyRepository.OptionTally;
+import com.mgmt.residency.repository.VoteRepository;
+
+import jakarta.annotation.PostConstruct;
+
+@Service
+public class PollTallyService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PollTallyService.class);
+
+	@Autowired
+	private PollOptionTallyRepository tallyRepo;
+
+	@Autowired
+	private VoteRepository voteRepo;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Transactional
+	public void recordVote(Long pollId, String previousOption, String selectedOption) {
+		// Rows are always locked in option order so two residents swapping options cannot deadlock
+		Map<String, Long> deltas = new TreeMap<>();
+		deltas.merge(selectedOption, 1L, Long::sum);
+		if (previousOption != null)
+			deltas.merge(previousOption, -1L, Long::sum);
+
+		applyDeltas(pollId, deltas);
+	}
+
+	@Transactional
+	public void applyDeltas(Long pollId, Map<String, Long> deltas) {
+		new TreeMap<>(deltas).forEach((option, delta) -> {
+			if (delta != 0)
+				tallyRepo.increment(pollId, option, delta);
+		});
+	}
+
+	public Map<Long, Map<String, Long>> getTallies(Collection<Long> pollIds) {
+		Map<Long, Map<String, Long>> tallies = new HashMap<>();
+		if (pollIds.isEmpty())
+			return tallies;
+
+		for (OptionTally tally : tallyRepo.findByPollIdIn(pollIds)) {
+			tallies.computeIfAbsent(tally.getPollId(), key -> new HashMap<>()).put(tally.getOptionValue(),
+					tally.getVoteCount());
+		}
+		return tallies;
+	}
+
+	// Runs during startup, before the web server takes traffic, so no vote can create a tally row between the
+	// empty check and the rebuild; another node voting meanwhile is absorbed by the rebuild's upsert
+	@PostConstruct
+	public void rebuildIfEmpty() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			if (voteRepo.count() == 0 || tallyRepo.count() > 0) {
+				return;
+			}
+
+			int rows = tallyRepo.rebuildFromVotes();
+			LOGGER.info("Poll option tallies rebuilt from votes: {} rows", rows);
+		});
+	}
+
+}
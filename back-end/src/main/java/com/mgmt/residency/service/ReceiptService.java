@@ -0,0 +1,224 @@
+package com.mgmt.residency.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.mgmt.residency.constants.PaymentType;
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.entity.FileMetadata;
+import com.mgmt.residency.entity.Payment;
+import com.mgmt.residency.exception.NotFoundException;
+import com.mgmt.residency.exception.UnauthorizedUserException;
+import com.mgmt.residency.repository.PaymentRepository;
+import com.mgmt.residency.storage.ReceiptStorage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Service
+public class ReceiptService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReceiptService.class);
+
+	private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+	private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+	@Autowired
+	private PaymentRepository paymentRepo;
+
+	@Autowired
+	private ReceiptStorage receiptStorage;
+
+	public void streamReceipt(String userId, String role, Long fileId, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		FileMetadata metadata = findAccessibleReceipt(userId, role, fileId);
+		Resource resource = receiptStorage.load(metadata.getContentHash());
+		long length = resource.contentLength();
+		String etag = "\"" + metadata.getContentHash() + "\"";
+
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		response.setHeader("X-Content-Type-Options", "nosniff");
+		response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable");
+		if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+			return;
+		}
+
+		// Only receipt types the browser renders safely are shown inline; anything else, such as HTML or SVG an
+		// uploader labelled themselves, is downloaded as opaque bytes so it cannot run on the API origin
+		String mimeType = inlineMimeType(metadata.getFileType());
+		ContentDisposition.Builder disposition = mimeType == null ? ContentDisposition.attachment()
+				: ContentDisposition.inline();
+		response.setContentType(mimeType == null ? MediaType.APPLICATION_OCTET_STREAM_VALUE : mimeType);
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+				disposition.filename(metadata.getFileName()).build().toString());
+
+		long start = 0;
+		long end = length - 1;
+		List<HttpRange> ranges = requestedRanges(request, etag);
+		if (ranges.size() == 1) {
+			try {
+				start = ranges.get(0).getRangeStart(length);
+				end = ranges.get(0).getRangeEnd(length);
+			} catch (IllegalArgumentException e) {
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+				response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+				return;
+			}
+			response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+			response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+		}
+
+		long count = end - start + 1;
+		response.setContentLengthLong(count);
+		if (HttpMethod.HEAD.matches(request.getMethod()) || count <= 0) {
+			return;
+		}
+
+		transfer(resource, start, count, request, response);
+	}
+
+	private FileMetadata findAccessibleReceipt(String userId, String role, Long fileId) {
+		Payment payment = paymentRepo.findByFileMetadatasId(fileId);
+		if (payment == null) {
+			throw new NotFoundException("Receipt not found");
+		}
+
+		boolean allowed;
+		if (UsersRole.ROLE_ADMIN.name().equalsIgnoreCase(role)) {
+			allowed = true;
+		} else if (UsersRole.ROLE_GUEST.name().equalsIgnoreCase(role)) {
+			allowed = PaymentType.EXPENSE.name().equals(payment.getType()) && payment.getTask() != null
+					&& payment.getTask().getAssignedTo() != null
+					&& userId.equals(payment.getTask().getAssignedTo().getId());
+		} else {
+			allowed = (payment.getCreatedBy() != null && userId.equals(payment.getCreatedBy().getId()))
+					|| paymentRepo.existsByIdAndUsersUserId(payment.getId(), userId);
+		}
+
+		if (!allowed) {
+			LOGGER.warn("User {} is not allowed to download receipt {}", userId, fileId);
+			throw new UnauthorizedUserException("You are not allowed to view this receipt");
+		}
+
+		return payment.getFileMetadatas().stream().filter(f -> f.getId().equals(fileId)).findFirst()
+				.orElseThrow(() -> new NotFoundException("Receipt not found"));
+	}
+
+	private List<HttpRange> requestedRanges(HttpServletRequest request, String etag) {
+		String range = request.getHeader(HttpHeaders.RANGE);
+		if (range == null) {
+			return List.of();
+		}
+
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (ifRange != null && !ifRange.equals(etag)) {
+			return List.of();
+		}
+
+		try {
+			return HttpRange.parseRanges(range);
+		} catch (IllegalArgumentException e) {
+			return List.of();
+		}
+	}
+
+	private void transfer(Resource resource, long start, long count, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		if (resource.isFile()) {
+			if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+				request.setAttribute(SENDFILE_FILENAME_ATTR, resource.getFile().getAbsolutePath());
+				request.setAttribute(SENDFILE_START_ATTR, start);
+				request.setAttribute(SENDFILE_END_ATTR, start + count);
+				return;
+			}
+
+			try (FileChannel in = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ);
+					WritableByteChannel out = Channels.newChannel(response.getOutputStream())) {
+				long position = start;
+				long remaining = count;
+				while (remaining > 0) {
+					long written = in.transferTo(position, remaining, out);
+					if (written <= 0)
+						break;
+					position += written;
+					remaining -= written;
+				}
+			}
+			return;
+		}
+
+		try (ReadableByteChannel in = resource.readableChannel();
+				WritableByteChannel out = Channels.newChannel(response.getOutputStream())) {
+			if (in instanceof SeekableByteChannel seekable) {
+				seekable.position(start);
+			} else {
+				skip(in, start);
+			}
+			ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+			long remaining = count;
+			while (remaining > 0) {
+				buffer.clear();
+				if (remaining < buffer.capacity())
+					buffer.limit((int) remaining);
+				int read = in.read(buffer);
+				if (read < 0)
+					break;
+				buffer.flip();
+				while (buffer.hasRemaining()) {
+					out.write(buffer);
+				}
+				remaining -= read;
+			}
+		}
+	}
+
+	private void skip(ReadableByteChannel in, long bytes) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+		long remaining = bytes;
+		while (remaining > 0) {
+			buffer.clear();
+			if (remaining < buffer.capacity())
+				buffer.limit((int) remaining);
+			int read = in.read(buffer);
+			if (read < 0)
+				break;
+			remaining -= read;
+		}
+	}
+
+	private String inlineMimeType(String fileType) {
+		if (fileType == null)
+			return null;
+
+		return switch (fileType.toLowerCase()) {
+		case "pdf", "application/pdf" -> MediaType.APPLICATION_PDF_VALUE;
+		case "jpeg", "jpg", "image/jpeg" -> MediaType.IMAGE_JPEG_VALUE;
+		case "png", "image/png" -> MediaType.IMAGE_PNG_VALUE;
+		default -> null;
+		};
+	}
+
+}
@@ -11,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.mgmt.residency.constants.AppConstant;
 import com.mgmt.residency.constants.NotificationType;
@@ -41,6 +42,7 @@ public class TaskService {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(TaskService.class);
 
+	@Transactional
 	public Task createTask(TaskRequestDto dto, String assignedByUserId) {
 		try {
 			LOGGER.info("Creating task: title='{}', assignedById='{}', assignedToId='{}'", dto.getTitle(),
@@ -91,6 +93,7 @@ public class TaskService {
 		}
 	}
 
+	@Transactional
 	public Task updateTask(Long taskId, TaskRequestDto dto, String assignedByUserId) {
 		try {
 			LOGGER.info("Updating task: id={}, title='{}'", taskId, dto.getTitle());
@@ -0,0 +1,201 @@
+package com.mgmt.residency.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.exception.AppException;
+import com.mgmt.residency.exception.NotFoundException;
+import com.mgmt.residency.repository.PollRepository;
+import com.mgmt.residency.repository.UserRepository;
+import com.mgmt.residency.request.dto.VoteRequestDto;
+import com.mgmt.residency.voting.BufferedVote;
+import com.mgmt.residency.voting.VoteBuffer;
+import com.mgmt.residency.voting.VoteJournal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service
+@ConditionalOnProperty(name = "poll.vote-buffer.enabled", havingValue = "true")
+public class VoteIngestionService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(VoteIngestionService.class);
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private PollRepository pollRepository;
+
+	@Autowired
+	private BufferedVoteWriter bufferedVoteWriter;
+
+	@Value("${poll.vote-buffer.stripes}")
+	private int stripes;
+
+	@Value("${poll.vote-buffer.batch-size}")
+	private int batchSize;
+
+	@Value("${poll.vote-buffer.journal-dir}")
+	private String journalDir;
+
+	@Value("${poll.vote-buffer.cache-ttl-ms}")
+	private long cacheTtlMs;
+
+	private final Map<Long, CachedOptions> pollOptions = new ConcurrentHashMap<>();
+
+	private final Map<String, Long> residents = new ConcurrentHashMap<>();
+
+	// Accepts share the read side so a rotation never separates a journal entry from its buffered vote
+	private final ReadWriteLock rotationLock = new ReentrantReadWriteLock();
+
+	private VoteBuffer buffer;
+
+	private VoteJournal journal;
+
+	@PostConstruct
+	public void init() throws IOException {
+		Path dir = Paths.get(journalDir).toAbsolutePath().normalize();
+		buffer = new VoteBuffer(stripes);
+		journal = new VoteJournal(dir);
+
+		List<BufferedVote> replayed = journal.replay();
+		buffer.putAll(replayed);
+		LOGGER.info("Vote buffer initialised at {}, {} journalled votes replayed", dir, replayed.size());
+	}
+
+	// Runs outside any transaction: the caches answer most validations, and the fsync wait holds no connection
+	public void accept(VoteRequestDto dto, String userId) {
+		if (!isResident(userId)) {
+			throw new NotFoundException("User not found");
+		}
+
+		Set<String> options = activeOptions(dto.getPollId());
+		if (options.isEmpty()) {
+			throw new AppException("Poll not found or is closed");
+		}
+		if (!options.contains(dto.getSelectedOption())) {
+			throw new AppException("Invalid option selected");
+		}
+
+		try {
+			// The vote reaches the buffer only once it is on disk, so a failed fsync is never flushed; holding the
+			// read side until then keeps a rotation from deleting the segment first
+			rotationLock.readLock().lock();
+			try {
+				long sequence = journal.append(dto.getPollId(), userId, dto.getSelectedOption());
+				journal.sync(sequence);
+				buffer.put(new BufferedVote(dto.getPollId(), userId, dto.getSelectedOption(), sequence));
+			} finally {
+				rotationLock.readLock().unlock();
+			}
+		} catch (IOException e) {
+			throw new AppException("Failed to record vote: " + e.getMessage());
+		}
+	}
+
+	public boolean hasPending(Long pollId) {
+		return buffer.containsPoll(pollId);
+	}
+
+	public void evictPoll(Long pollId) {
+		pollOptions.remove(pollId);
+	}
+
+	@Scheduled(fixedDelayString = "${poll.vote-buffer.flush-interval-ms}")
+	public void flush() {
+		List<Path> segments;
+		List<BufferedVote> votes;
+		rotationLock.writeLock().lock();
+		try {
+			segments = journal.rotate();
+			votes = buffer.drain();
+		} catch (IOException e) {
+			LOGGER.error("Failed to rotate vote journal: {}", e.getMessage(), e);
+			return;
+		} finally {
+			rotationLock.writeLock().unlock();
+		}
+
+		int written = 0;
+		int changed = 0;
+		try {
+			for (; written < votes.size(); written += batchSize) {
+				changed += bufferedVoteWriter.write(votes.subList(written, Math.min(written + batchSize, votes.size())));
+			}
+			// Every vote journalled in these segments is now in the database
+			journal.delete(segments);
+			if (!votes.isEmpty())
+				LOGGER.info("Flushed {} buffered votes, {} changed", votes.size(), changed);
+		} catch (Exception e) {
+			// Unwritten votes go back into the buffer, where a newer vote for the same key still wins; the
+			// segments stay on disk until a later flush succeeds
+			buffer.putAll(votes.subList(Math.min(written, votes.size()), votes.size()));
+			LOGGER.error("Failed to flush buffered votes: {}", e.getMessage(), e);
+		}
+	}
+
+	public int pending() {
+		return buffer.size();
+	}
+
+	private boolean isResident(String userId) {
+		Long expiresAt = residents.get(userId);
+		if (expiresAt != null && expiresAt > System.currentTimeMillis())
+			return true;
+
+		if (!userRepo.existsByIdAndRole(userId, UsersRole.ROLE_RESIDENT.name()))
+			return false;
+		residents.put(userId, System.currentTimeMillis() + cacheTtlMs);
+		return true;
+	}
+
+	private Set<String> activeOptions(Long pollId) {
+		CachedOptions cached = pollOptions.get(pollId);
+		if (cached != null && cached.expiresAt > System.currentTimeMillis())
+			return cached.options;
+
+		Set<String> options = new HashSet<>(pollRepository.findActiveOptions(pollId));
+		// Closed or missing polls are not cached, so a reopened poll is seen straight away
+		if (!options.isEmpty())
+			pollOptions.put(pollId, new CachedOptions(options, System.currentTimeMillis() + cacheTtlMs));
+		return options;
+	}
+
+	@PreDestroy
+	public void shutdown() throws IOException {
+		flush();
+		journal.close();
+	}
+
+	private static class CachedOptions {
+
+		private final Set<String> options;
+
+		private final long expiresAt;
+
+		CachedOptions(Set<String> options, long expiresAt) {
+			this.options = options;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+}
@@ -1,33 +1,43 @@
 package com.mgmt.residency.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.mgmt.residency.constants.AppConstant;
 import com.mgmt.residency.constants.NotificationType;
 import com.mgmt.residency.constants.UsersRole;
 import com.mgmt.residency.entity.Poll;
 import com.mgmt.residency.entity.User;
-import com.mgmt.residency.entity.Vote;
 import com.mgmt.residency.exception.AppException;
 import com.mgmt.residency.exception.NotFoundException;
 import com.mgmt.residency.repository.PollRepository;
 import com.mgmt.residency.repository.UserRepository;
 import com.mgmt.residency.repository.VoteRepository;
+import com.mgmt.residency.repository.VoteRepository.Selection;
+import com.mgmt.residency.repository.VoteRepository.Voter;
 import com.mgmt.residency.request.dto.PollRequestDto;
 import com.mgmt.residency.request.dto.VoteRequestDto;
 import com.mgmt.residency.response.dto.CommonPollResponseDto;
 import com.mgmt.residency.response.dto.CommonPollResponseDto.OptionResult;
+import com.mgmt.residency.response.dto.PollPageDto;
+import com.mgmt.residency.response.dto.PollVotersPageDto;
 import com.mgmt.residency.response.dto.UserResponseDto;
 
 @Service
@@ -45,8 +55,30 @@ public class VotingService {
 	@Autowired
 	NotificationService notificationService;
 
+	@Autowired
+	PollTallyService pollTallyService;
+
+	@Autowired(required = false)
+	VoteIngestionService voteIngestionService;
+
+	@Autowired
+	PollResultPublisher pollResultPublisher;
+
+	@Value("${poll.page.default-page-size}")
+	private int defaultPollPageSize;
+
+	@Value("${poll.page.max-page-size}")
+	private int maxPollPageSize;
+
+	@Value("${poll.voters.default-page-size}")
+	private int defaultVoterPageSize;
+
+	@Value("${poll.voters.max-page-size}")
+	private int maxVoterPageSize;
+
 	private static final Logger LOGGER = LoggerFactory.getLogger(VotingService.class);
 
+	@Transactional
 	public Poll createPoll(PollRequestDto dto, String userId) {
 		LOGGER.info("Creating poll by userId: {}", userId);
 		try {
@@ -67,9 +99,9 @@ public class VotingService {
 
 			String message = String.format("%s<b>%s</b>", AppConstant.POLL_NOTIFICATION_MESSAGE, save.getQuestion());
 
-			List<User> selectedUsers = userRepo.findAllByRole(UsersRole.ROLE_RESIDENT.name());
-			selectedUsers.stream().filter(u -> !u.getId().equals(userId)).forEach(u -> notificationService
-					.sendNotification(user, u, new StringBuilder(message), NotificationType.POLL.name()));
+			List<User> selectedUsers = userRepo.findAllByRole(UsersRole.ROLE_RESIDENT.name()).stream()
+					.filter(u -> !u.getId().equals(userId)).collect(Collectors.toList());
+			notificationService.sendNotifications(user, selectedUsers, message, NotificationType.POLL.name());
 
 			LOGGER.debug("Notifications sent to {} users", selectedUsers.size());
 
@@ -117,37 +149,37 @@ public class VotingService {
 		}
 	}
 
+	@Transactional
 	public void castVote(VoteRequestDto dto, String userId) {
 		LOGGER.info("Casting vote for pollId: {} by userId: {}", dto.getPollId(), userId);
 		try {
-			User user = userRepo.findByIdAndRole(userId, UsersRole.ROLE_RESIDENT.name());
-			if (user == null) {
+			// Locking the resident serialises their own clicks, so the previous option read below cannot go stale
+			if (userRepo.lockByIdAndRole(userId, UsersRole.ROLE_RESIDENT.name()) == 0) {
 				throw new NotFoundException("User not found");
 			}
 
-			Poll poll = pollRepository.findByIdAndIsActive(dto.getPollId(), true);
-			if (poll == null) {
-				throw new AppException("Poll not found or is closed");
-			}
-
-			if (!poll.getOptions().contains(dto.getSelectedOption())) {
+			if (!pollRepository.existsActiveWithOption(dto.getPollId(), dto.getSelectedOption())) {
+				if (!pollRepository.existsByIdAndIsActive(dto.getPollId(), true)) {
+					throw new AppException("Poll not found or is closed");
+				}
 				throw new AppException("Invalid option selected");
 			}
 
-			Vote vote = poll.getVotes().stream().filter(voteObj -> voteObj.getVotedBy().getId().equals(userId))
-					.findFirst().orElse(null);
+			String previousOption = voteRepo.findSelectedOption(dto.getPollId(), userId);
+			if (dto.getSelectedOption().equals(previousOption)) {
+				LOGGER.info("Vote unchanged for pollId: {} by userId: {}", dto.getPollId(), userId);
+				return;
+			}
 
-			if (vote != null) {
-				vote.setSelectedOption(dto.getSelectedOption());
-				LOGGER.info("Vote updated successfully for pollId: {} by userId: {}", dto.getPollId(), userId);
-			} else {
-				vote = new Vote();
-				vote.setPoll(poll);
-				vote.setVotedBy(user);
-				vote.setSelectedOption(dto.getSelectedOption());
+			// The unique (poll_id, voted_by) key turns a repeat vote into an update of the same row
+			voteRepo.upsertVote(dto.getPollId(), userId, dto.getSelectedOption());
+			pollTallyService.recordVote(dto.getPollId(), previousOption, dto.getSelectedOption());
+			pollResultPublisher.recordVote(dto.getPollId(), previousOption, dto.getSelectedOption());
+			if (previousOption == null) {
 				LOGGER.info("Vote cast successfully for pollId: {} by userId: {}", dto.getPollId(), userId);
+			} else {
+				LOGGER.info("Vote updated successfully for pollId: {} by userId: {}", dto.getPollId(), userId);
 			}
-			voteRepo.save(vote);
 		} catch (Exception e) {
 			LOGGER.error("Failed to cast vote for pollId: {} by userId: {}", dto.getPollId(), userId, e);
 			throw new AppException("Failed to cast vote: " + e.getMessage());
@@ -163,6 +195,8 @@ public class VotingService {
 			}
 			poll.setActive(false);
 			pollRepository.save(poll);
+			if (voteIngestionService != null)
+				voteIngestionService.evictPoll(pollId);
 			LOGGER.info("Poll closed successfully: {}", pollId);
 		} catch (Exception e) {
 			LOGGER.error("Error closing pollId: {}", pollId, e);
@@ -170,63 +204,137 @@ public class VotingService {
 		}
 	}
 
+	@Transactional(readOnly = true)
 	public List<CommonPollResponseDto> getAllPollsForUser(String userId, String role) {
 		try {
-			List<Poll> polls = pollRepository.findAll();
+			List<Poll> polls = pollRepository.findPollPage(null, null, Pageable.unpaged());
+			return toPollResponses(polls, userId, role);
+		} catch (Exception ex) {
+			throw new AppException(ex.getMessage());
+		}
+	}
 
-			if (polls.isEmpty()) {
-				return Collections.emptyList();
+	@Transactional(readOnly = true)
+	public PollPageDto getPollPage(String userId, String role, String cursor, Integer size) {
+		try {
+			int pageSize = size == null || size <= 0 ? defaultPollPageSize : Math.min(size, maxPollPageSize);
+
+			LocalDateTime cursorCreatedAt = null;
+			Long cursorId = null;
+			if (cursor != null && !cursor.isBlank()) {
+				String token = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+				String[] parts = token.split("\\|");
+				cursorCreatedAt = LocalDateTime.parse(parts[0]);
+				cursorId = Long.valueOf(parts[1]);
 			}
 
-			return polls.stream().sorted((p1, p2) -> p2.getCreatedAt().compareTo(p1.getCreatedAt())).map(poll -> {
-				CommonPollResponseDto dto = new CommonPollResponseDto();
-				dto.setPollId(poll.getId());
-				dto.setQuestion(poll.getQuestion());
-				dto.setOptions(poll.getOptions());
-				dto.setVoteCount(poll.getVotes().size());
-				dto.setUserResponseDto(mapToUserResponseDto(poll.getCreatedBy()));
-				dto.setCreatedAt(poll.getCreatedAt());
-				dto.setIsActive(poll.isActive());
-
-				Optional<Vote> vote = poll.getVotes().stream()
-						.filter(v -> v.getVotedBy() != null && v.getVotedBy().getId().equals(userId)).findFirst();
-
-				dto.setSelectedOption(vote.map(Vote::getSelectedOption).orElse(null));
-
-				if (UsersRole.ROLE_ADMIN.name().equalsIgnoreCase(role)) {
-					dto.setOptionResults(buildOptionResults(poll));
-				}
+			List<Poll> polls = pollRepository.findPollPage(cursorCreatedAt, cursorId, PageRequest.of(0, pageSize + 1));
+			boolean hasMore = polls.size() > pageSize;
+			if (hasMore) {
+				polls = polls.subList(0, pageSize);
+			}
 
-				return dto;
-			}).collect(Collectors.toList());
+			PollPageDto page = new PollPageDto();
+			page.setPolls(toPollResponses(polls, userId, role));
+			if (hasMore) {
+				Poll last = polls.get(polls.size() - 1);
+				String token = last.getCreatedAt() + "|" + last.getId();
+				page.setNextCursor(
+						Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8)));
+			}
+			return page;
 
+		} catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+			LOGGER.warn("Invalid poll page request for userId: {}: {}", userId, e.getMessage());
+			throw new AppException("Invalid cursor");
 		} catch (Exception ex) {
 			throw new AppException(ex.getMessage());
 		}
 	}
 
-	private List<OptionResult> buildOptionResults(Poll poll) {
-		List<Vote> votes = poll.getVotes();
+	// Builds a page of polls with a fixed number of statements: options, tallies and the caller's own votes are each
+	// loaded once for the whole page
+	private List<CommonPollResponseDto> toPollResponses(List<Poll> polls, String userId, String role) {
+		if (polls.isEmpty()) {
+			return Collections.emptyList();
+		}
 
-		long totalVotes = votes.size();
+		List<Long> pollIds = polls.stream().map(Poll::getId).collect(Collectors.toList());
+		pollRepository.fetchOptionsByIdIn(pollIds);
+		Map<Long, Map<String, Long>> tallies = pollTallyService.getTallies(pollIds);
+		Map<Long, String> selections = voteRepo.findSelections(userId, pollIds).stream()
+				.collect(Collectors.toMap(Selection::getPollId, Selection::getSelectedOption));
+
+		return polls.stream().map(poll -> {
+			Map<String, Long> tally = tallies.getOrDefault(poll.getId(), Collections.emptyMap());
+
+			CommonPollResponseDto dto = new CommonPollResponseDto();
+			dto.setPollId(poll.getId());
+			dto.setQuestion(poll.getQuestion());
+			dto.setOptions(poll.getOptions());
+			dto.setVoteCount(tally.values().stream().mapToLong(Long::longValue).sum());
+			dto.setUserResponseDto(mapToUserResponseDto(poll.getCreatedBy()));
+			dto.setCreatedAt(poll.getCreatedAt());
+			dto.setIsActive(poll.isActive());
+			dto.setSelectedOption(selections.get(poll.getId()));
+
+			if (UsersRole.ROLE_ADMIN.name().equalsIgnoreCase(role)) {
+				dto.setOptionResults(buildOptionResults(poll.getOptions(), tally));
+			}
 
-		return poll.getOptions().stream().map(option -> {
-			List<UserResponseDto> voters = votes.stream().filter(v -> v.getSelectedOption().equals(option))
-					.map(v -> mapToUserResponseDto(v.getVotedBy())).collect(Collectors.toList());
+			return dto;
+		}).collect(Collectors.toList());
+	}
+
+	private List<OptionResult> buildOptionResults(List<String> options, Map<String, Long> tally) {
+		long totalVotes = tally.values().stream().mapToLong(Long::longValue).sum();
 
-			long voteCount = voters.size();
+		return options.stream().map(option -> {
+			long voteCount = tally.getOrDefault(option, 0L);
 			double percentage = totalVotes == 0 ? 0.0 : ((double) voteCount / totalVotes) * 100;
 
 			CommonPollResponseDto.OptionResult result = new CommonPollResponseDto.OptionResult();
 			result.setOption(option);
 			result.setVoteCount(voteCount);
 			result.setPercentage(percentage);
-			result.setVoters(voters);
 
 			return result;
 		}).collect(Collectors.toList());
 	}
 
+	public PollVotersPageDto getPollVoters(Long pollId, String option, Long cursor, Integer size, String adminId) {
+		try {
+			if (pollRepository.findByIdAndCreatedById(pollId, adminId) == null) {
+				throw new NotFoundException("Poll not found or you don't have permission");
+			}
+
+			int pageSize = size == null || size <= 0 ? defaultVoterPageSize : Math.min(size, maxVoterPageSize);
+			List<Voter> voters = voteRepo.findVoters(pollId, option, cursor, PageRequest.of(0, pageSize + 1));
+
+			boolean hasMore = voters.size() > pageSize;
+			if (hasMore) {
+				voters = voters.subList(0, pageSize);
+			}
+
+			PollVotersPageDto page = new PollVotersPageDto();
+			page.setVoters(voters.stream().map(voter -> {
+				UserResponseDto dto = new UserResponseDto();
+				dto.setId(voter.getId());
+				dto.setFirstName(voter.getFirstName());
+				dto.setLastName(voter.getLastName());
+				dto.setEmail(voter.getEmail());
+				return dto;
+			}).collect(Collectors.toList()));
+			if (hasMore) {
+				page.setNextCursor(voters.get(voters.size() - 1).getVoteId());
+			}
+			return page;
+
+		} catch (Exception ex) {
+			throw new AppException(ex.getMessage());
+		}
+	}
+
 	private UserResponseDto mapToUserResponseDto(User user) {
 		if (user == null)
 			return null;
@@ -245,10 +353,14 @@ public class VotingService {
 			if (deletePoll == null) {
 				throw new NotFoundException("Poll not found or you don't have permission");
 			}
-			if (!deletePoll.getVotes().isEmpty()) {
+			// In burst mode a vote may still be waiting in the buffer rather than in the votes table
+			if (voteRepo.existsByPollId(pollId)
+					|| (voteIngestionService != null && voteIngestionService.hasPending(pollId))) {
 				throw new AppException("Poll has votes. you are not allowed to delete it.");
 			}
 			pollRepository.delete(deletePoll);
+			if (voteIngestionService != null)
+				voteIngestionService.evictPoll(pollId);
 
 		} catch (Exception ex) {
 			throw new AppException(ex.getMessage());
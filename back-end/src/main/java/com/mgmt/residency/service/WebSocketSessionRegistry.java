@@ -0,0 +1,29 @@
+package com.mgmt.residency.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+
+import com.mgmt.residency.response.dto.WebSocketSessionStatsDto;
+
+@Service
+public class WebSocketSessionRegistry {
+
+	@Autowired
+	private SimpUserRegistry simpUserRegistry;
+
+	public boolean isConnected(String userId) {
+		SimpUser user = simpUserRegistry.getUser(userId);
+		return user != null && user.hasSessions();
+	}
+
+	public WebSocketSessionStatsDto getStats() {
+		WebSocketSessionStatsDto dto = new WebSocketSessionStatsDto();
+		dto.setConnectedUsers(simpUserRegistry.getUserCount());
+		dto.setConnectedSessions(
+				simpUserRegistry.getUsers().stream().mapToLong(user -> user.getSessions().size()).sum());
+		return dto;
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.mgmt.residency.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LegacyReceiptMigration {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LegacyReceiptMigration.class);
+
+	private static final int BATCH_SIZE = 100;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ReceiptStorage receiptStorage;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void migrate() {
+		List<Long> ids;
+		try {
+			ids = pendingIds();
+		} catch (DataAccessException e) {
+			LOGGER.debug("No legacy receipt_file column found, skipping receipt migration");
+			return;
+		}
+
+		int migrated = 0;
+		while (!ids.isEmpty()) {
+			for (Long id : ids) {
+				try {
+					StoredReceipt stored = jdbcTemplate.query("SELECT receipt_file FROM file_metadata WHERE id = ?",
+							rs -> {
+								if (!rs.next())
+									return null;
+								try (InputStream in = rs.getBinaryStream(1)) {
+									return receiptStorage.store(Channels.newChannel(in));
+								} catch (IOException e) {
+									throw new UncheckedIOException(e);
+								}
+							}, id);
+					if (stored == null)
+						continue;
+					jdbcTemplate.update(
+							"UPDATE file_metadata SET content_hash = ?, file_size = ?, receipt_file = NULL WHERE id = ?",
+							stored.getContentHash(), stored.getSize(), id);
+					migrated++;
+				} catch (Exception e) {
+					LOGGER.error("Failed to migrate receipt for file_metadata id: {}", id, e);
+					return;
+				}
+			}
+			ids = pendingIds();
+		}
+
+		if (migrated > 0) {
+			LOGGER.info("Migrated {} legacy receipts to receipt storage", migrated);
+		}
+	}
+
+	private List<Long> pendingIds() {
+		return jdbcTemplate.queryForList(
+				"SELECT id FROM file_metadata WHERE content_hash IS NULL AND receipt_file IS NOT NULL LIMIT ?",
+				Long.class, BATCH_SIZE);
+	}
+
+}
@@ -0,0 +1,115 @@
+package com.mgmt.residency.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import com.mgmt.residency.exception.NotFoundException;
+
+import jakarta.annotation.PostConstruct;
+
+@Component
+@ConditionalOnProperty(name = "receipt.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalReceiptStorage implements ReceiptStorage {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LocalReceiptStorage.class);
+
+	private static final Pattern SHA_256_HEX = Pattern.compile("^[0-9a-f]{64}$");
+
+	private static final int CHUNK_SIZE = 64 * 1024;
+
+	@Value("${receipt.storage.local.root-dir}")
+	private String rootDir;
+
+	private Path root;
+
+	@PostConstruct
+	public void init() throws IOException {
+		root = Paths.get(rootDir).toAbsolutePath().normalize();
+		Files.createDirectories(root);
+		LOGGER.info("Receipt storage initialised at {}", root);
+	}
+
+	@Override
+	public StoredReceipt store(ReadableByteChannel source) throws IOException {
+		MessageDigest digest = sha256();
+		ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+		long size = 0;
+
+		Path temp = Files.createTempFile(root, "upload-", ".tmp");
+		try {
+			try (FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				while (source.read(buffer) >= 0) {
+					buffer.flip();
+					digest.update(buffer.array(), 0, buffer.limit());
+					size += buffer.limit();
+					while (buffer.hasRemaining()) {
+						target.write(buffer);
+					}
+					buffer.clear();
+				}
+				target.force(false);
+			}
+
+			String contentHash = HexFormat.of().formatHex(digest.digest());
+			Path destination = resolve(contentHash);
+			if (Files.exists(destination)) {
+				LOGGER.debug("Receipt {} already stored, skipping write", contentHash);
+			} else {
+				Files.createDirectories(destination.getParent());
+				Files.move(temp, destination, StandardCopyOption.ATOMIC_MOVE);
+			}
+			return new StoredReceipt(contentHash, size);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	@Override
+	public Resource load(String contentHash) throws IOException {
+		Path path = resolve(contentHash);
+		if (!Files.isReadable(path)) {
+			throw new NotFoundException("Receipt not found");
+		}
+		return new FileSystemResource(path);
+	}
+
+	@Override
+	public boolean exists(String contentHash) {
+		return contentHash != null && SHA_256_HEX.matcher(contentHash).matches() && Files.exists(resolve(contentHash));
+	}
+
+	private Path resolve(String contentHash) {
+		if (contentHash == null || !SHA_256_HEX.matcher(contentHash).matches()) {
+			throw new NotFoundException("Receipt not found");
+		}
+		return root.resolve(contentHash.substring(0, 2)).resolve(contentHash);
+	}
+
+	private MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+}
@@ -0,0 +1,16 @@
+package com.mgmt.residency.storage;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+
+import org.springframework.core.io.Resource;
+
+public interface ReceiptStorage {
+
+	StoredReceipt store(ReadableByteChannel source) throws IOException;
+
+	Resource load(String contentHash) throws IOException;
+
+	boolean exists(String contentHash);
+
+}
@@ -0,0 +1,22 @@
+package com.mgmt.residency.storage;
+
+public class StoredReceipt {
+
+	private final String contentHash;
+
+	private final long size;
+
+	public StoredReceipt(String contentHash, long size) {
+		this.contentHash = contentHash;
+		this.size = size;
+	}
+
+	public String getContentHash() {
+		return contentHash;
+	}
+
+	public long getSize() {
+		return size;
+	}
+
+}
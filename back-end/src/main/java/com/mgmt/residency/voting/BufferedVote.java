@@ -0,0 +1,40 @@
+package com.mgmt.residency.voting;
+
+public class BufferedVote {
+
+	private final Long pollId;
+
+	private final String userId;
+
+	private final String selectedOption;
+
+	private final long sequence;
+
+	public BufferedVote(Long pollId, String userId, String selectedOption, long sequence) {
+		this.pollId = pollId;
+		this.userId = userId;
+		this.selectedOption = selectedOption;
+		this.sequence = sequence;
+	}
+
+	public Long getPollId() {
+		return pollId;
+	}
+
+	public String getUserId() {
+		return userId;
+	}
+
+	public String getSelectedOption() {
+		return selectedOption;
+	}
+
+	public long getSequence() {
+		return sequence;
+	}
+
+	public String key() {
+		return pollId + ":" + userId;
+	}
+
+}
@@ -0,0 +1,70 @@
+package com.mgmt.residency.voting;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class VoteBuffer {
+
+	private final Map<String, BufferedVote>[] stripes;
+
+	@SuppressWarnings("unchecked")
+	public VoteBuffer(int stripeCount) {
+		stripes = new Map[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			stripes[i] = new HashMap<>();
+		}
+	}
+
+	// Last write wins per (poll, user): a resident changing their mind within one flush window costs one row write
+	public void put(BufferedVote vote) {
+		Map<String, BufferedVote> stripe = stripeFor(vote.key());
+		synchronized (stripe) {
+			stripe.merge(vote.key(), vote,
+					(current, candidate) -> candidate.getSequence() >= current.getSequence() ? candidate : current);
+		}
+	}
+
+	public void putAll(List<BufferedVote> votes) {
+		votes.forEach(this::put);
+	}
+
+	public List<BufferedVote> drain() {
+		List<BufferedVote> drained = new ArrayList<>();
+		for (Map<String, BufferedVote> stripe : stripes) {
+			synchronized (stripe) {
+				drained.addAll(stripe.values());
+				stripe.clear();
+			}
+		}
+		return drained;
+	}
+
+	public boolean containsPoll(Long pollId) {
+		for (Map<String, BufferedVote> stripe : stripes) {
+			synchronized (stripe) {
+				for (BufferedVote vote : stripe.values()) {
+					if (vote.getPollId().equals(pollId))
+						return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	public int size() {
+		int size = 0;
+		for (Map<String, BufferedVote> stripe : stripes) {
+			synchronized (stripe) {
+				size += stripe.size();
+			}
+		}
+		return size;
+	}
+
+	private Map<String, BufferedVote> stripeFor(String key) {
+		return stripes[Math.floorMod(key.hashCode(), stripes.length)];
+	}
+
+}
@@ -0,0 +1,146 @@
+package com.mgmt.residency.voting;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class VoteJournal implements Closeable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(VoteJournal.class);
+
+	private static final boolean WINDOWS = File.separatorChar == '\\';
+
+	private static final Pattern SEGMENT_NAME = Pattern.compile("^votes-(\\d+)\\.log$");
+
+	private final Path dir;
+
+	private final Object forceLock = new Object();
+
+	private FileChannel channel;
+
+	private long segment;
+
+	private volatile long written;
+
+	private volatile long forced;
+
+	public VoteJournal(Path dir) throws IOException {
+		this.dir = dir;
+		Files.createDirectories(dir);
+		List<Long> existing = segmentNumbers();
+		segment = existing.isEmpty() ? 0 : existing.get(existing.size() - 1);
+		openNextSegment();
+	}
+
+	// Votes from segments left behind by a previous run, oldest first
+	public List<BufferedVote> replay() throws IOException {
+		List<BufferedVote> votes = new ArrayList<>();
+		long sequence = 0;
+		for (Path path : closedSegments()) {
+			String content = Files.readString(path, StandardCharsets.UTF_8);
+			String[] lines = content.split("\n", -1);
+			// Everything after the last newline is a torn write from a crash, which was never acknowledged
+			if (!lines[lines.length - 1].isEmpty())
+				LOGGER.warn("Skipping incomplete vote journal entry in {}", path.getFileName());
+			for (int i = 0; i < lines.length - 1; i++) {
+				String[] parts = lines[i].split("\t");
+				String option = new String(Base64.getUrlDecoder().decode(parts[2]), StandardCharsets.UTF_8);
+				votes.add(new BufferedVote(Long.valueOf(parts[0]), parts[1], option, Long.MIN_VALUE + (++sequence)));
+			}
+		}
+		return votes;
+	}
+
+	public synchronized long append(Long pollId, String userId, String selectedOption) throws IOException {
+		String line = pollId + "\t" + userId + "\t"
+				+ Base64.getUrlEncoder().encodeToString(selectedOption.getBytes(StandardCharsets.UTF_8)) + "\n";
+		ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		return ++written;
+	}
+
+	// Group commit: one fsync covers every entry appended before it started
+	public void sync(long sequence) throws IOException {
+		if (forced >= sequence)
+			return;
+		synchronized (forceLock) {
+			if (forced >= sequence)
+				return;
+			long target = written;
+			synchronized (this) {
+				channel.force(false);
+			}
+			forced = target;
+		}
+	}
+
+	// Closes the active segment and returns every closed segment, which the caller deletes once their votes are stored
+	public synchronized List<Path> rotate() throws IOException {
+		channel.force(false);
+		forced = written;
+		channel.close();
+		openNextSegment();
+		return closedSegments();
+	}
+
+	public void delete(List<Path> segments) throws IOException {
+		for (Path path : segments) {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		channel.force(false);
+		channel.close();
+	}
+
+	private void openNextSegment() throws IOException {
+		segment++;
+		channel = FileChannel.open(dir.resolve("votes-" + segment + ".log"), StandardOpenOption.CREATE_NEW,
+				StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		forceDirectory();
+	}
+
+	// Without this the new segment's directory entry can be lost in a crash, taking acknowledged votes with it
+	private void forceDirectory() throws IOException {
+		if (WINDOWS) {
+			// NTFS journals directory entries itself and directories cannot be opened as channels there
+			return;
+		}
+		try (FileChannel directory = FileChannel.open(dir, StandardOpenOption.READ)) {
+			directory.force(true);
+		}
+	}
+
+	private List<Path> closedSegments() throws IOException {
+		return segmentNumbers().stream().filter(number -> number < segment)
+				.map(number -> dir.resolve("votes-" + number + ".log")).collect(Collectors.toList());
+	}
+
+	private List<Long> segmentNumbers() throws IOException {
+		try (Stream<Path> files = Files.list(dir)) {
+			return files.map(path -> SEGMENT_NAME.matcher(path.getFileName().toString())).filter(Matcher::matches)
+					.map(matcher -> Long.valueOf(matcher.group(1))).sorted().collect(Collectors.toList());
+		}
+	}
+
+}
@@ -0,0 +1,160 @@
+package com.mgmt.residency.websocket;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+public class BoundedSendSession extends WebSocketSessionDecorator {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BoundedSendSession.class);
+
+	private final Deque<WebSocketMessage<?>> queue = new ArrayDeque<>();
+
+	private final AtomicBoolean flushing = new AtomicBoolean();
+
+	private final Executor flushExecutor;
+
+	private final WebSocketBackpressureMetrics metrics;
+
+	private final int maxQueuedBytes;
+
+	private final int maxQueuedFrames;
+
+	private final long sendTimeLimitMs;
+
+	private final OverflowPolicy overflowPolicy;
+
+	private int queuedBytes;
+
+	private volatile long sendStartedAt;
+
+	private volatile boolean closing;
+
+	public BoundedSendSession(WebSocketSession delegate, Executor flushExecutor, WebSocketBackpressureMetrics metrics,
+			int maxQueuedBytes, int maxQueuedFrames, long sendTimeLimitMs, OverflowPolicy overflowPolicy) {
+		super(delegate);
+		this.flushExecutor = flushExecutor;
+		this.metrics = metrics;
+		this.maxQueuedBytes = maxQueuedBytes;
+		this.maxQueuedFrames = maxQueuedFrames;
+		this.sendTimeLimitMs = sendTimeLimitMs;
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	@Override
+	public void sendMessage(WebSocketMessage<?> message) throws IOException {
+		if (closing)
+			return;
+
+		if (checkSendTimeLimit(System.currentTimeMillis()))
+			return;
+
+		boolean overflow = false;
+		synchronized (queue) {
+			queue.addLast(message);
+			queuedBytes += message.getPayloadLength();
+			while (queuedBytes > maxQueuedBytes || queue.size() > maxQueuedFrames) {
+				if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+					overflow = true;
+					break;
+				}
+				WebSocketMessage<?> dropped = queue.pollFirst();
+				queuedBytes -= dropped.getPayloadLength();
+				metrics.frameDropped();
+			}
+		}
+
+		if (overflow) {
+			disconnect("send queue exceeded " + maxQueuedFrames + " frames or " + maxQueuedBytes + " bytes");
+			return;
+		}
+
+		scheduleFlush();
+	}
+
+	@Override
+	public void close(CloseStatus status) throws IOException {
+		closing = true;
+		synchronized (queue) {
+			queue.clear();
+			queuedBytes = 0;
+		}
+		super.close(status);
+	}
+
+	// Also called on a timer, so a session whose send is stuck is closed even when no new frames arrive
+	public boolean checkSendTimeLimit(long now) {
+		long startedAt = sendStartedAt;
+		if (startedAt == 0 || now - startedAt <= sendTimeLimitMs)
+			return false;
+
+		disconnect("send blocked for more than " + sendTimeLimitMs + " ms");
+		return true;
+	}
+
+	public int getQueuedBytes() {
+		synchronized (queue) {
+			return queuedBytes;
+		}
+	}
+
+	private void scheduleFlush() {
+		if (flushing.compareAndSet(false, true)) {
+			flushExecutor.execute(this::flush);
+		}
+	}
+
+	private void flush() {
+		try {
+			while (true) {
+				WebSocketMessage<?> message;
+				synchronized (queue) {
+					message = queue.pollFirst();
+					if (message == null) {
+						flushing.set(false);
+						return;
+					}
+					queuedBytes -= message.getPayloadLength();
+				}
+
+				sendStartedAt = System.currentTimeMillis();
+				try {
+					getDelegate().sendMessage(message);
+				} finally {
+					sendStartedAt = 0;
+				}
+			}
+		} catch (Exception e) {
+			flushing.set(false);
+			LOGGER.debug("Failed to flush WebSocket session {}: {}", getId(), e.getMessage());
+			try {
+				close(CloseStatus.SESSION_NOT_RELIABLE);
+			} catch (IOException closeError) {
+				LOGGER.debug("Failed to close WebSocket session {}: {}", getId(), closeError.getMessage());
+			}
+		}
+	}
+
+	private void disconnect(String reason) {
+		if (closing)
+			return;
+
+		metrics.forcedDisconnect();
+		LOGGER.warn("Disconnecting slow WebSocket session {}: {}", getId(), reason);
+		try {
+			close(CloseStatus.SESSION_NOT_RELIABLE);
+		} catch (IOException e) {
+			LOGGER.debug("Failed to close WebSocket session {}: {}", getId(), e.getMessage());
+		}
+	}
+
+}
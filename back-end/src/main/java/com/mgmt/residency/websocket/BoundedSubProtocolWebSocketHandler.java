@@ -0,0 +1,47 @@
+package com.mgmt.residency.websocket;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+public class BoundedSubProtocolWebSocketHandler extends SubProtocolWebSocketHandler {
+
+	private final Executor flushExecutor;
+
+	private final WebSocketBackpressureMetrics metrics;
+
+	private final int maxQueuedFrames;
+
+	private final OverflowPolicy overflowPolicy;
+
+	public BoundedSubProtocolWebSocketHandler(MessageChannel clientInboundChannel,
+			SubscribableChannel clientOutboundChannel, Executor flushExecutor, WebSocketBackpressureMetrics metrics,
+			int maxQueuedFrames, OverflowPolicy overflowPolicy) {
+		super(clientInboundChannel, clientOutboundChannel);
+		this.flushExecutor = flushExecutor;
+		this.metrics = metrics;
+		this.maxQueuedFrames = maxQueuedFrames;
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	// Replaces the default ConcurrentWebSocketSessionDecorator, so the transport's send time and buffer limits are
+	// enforced by a single layer
+	@Override
+	protected WebSocketSession decorateSession(WebSocketSession session) {
+		BoundedSendSession bounded = new BoundedSendSession(session, flushExecutor, metrics, getSendBufferSizeLimit(),
+				maxQueuedFrames, getSendTimeLimit(), overflowPolicy);
+		metrics.register(bounded);
+		return bounded;
+	}
+
+	@Override
+	public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+		metrics.unregister(session.getId());
+		super.afterConnectionClosed(session, closeStatus);
+	}
+
+}
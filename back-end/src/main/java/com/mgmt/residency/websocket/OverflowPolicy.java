@@ -0,0 +1,5 @@
+package com.mgmt.residency.websocket;
+
+public enum OverflowPolicy {
+	DROP_OLDEST, DISCONNECT
+}
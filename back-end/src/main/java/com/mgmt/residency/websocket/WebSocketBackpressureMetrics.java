@@ -0,0 +1,68 @@
+package com.mgmt.residency.websocket;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.mgmt.residency.response.dto.WebSocketBackpressureMetricsDto;
+
+@Component
+public class WebSocketBackpressureMetrics {
+
+	private final Map<String, BoundedSendSession> sessions = new ConcurrentHashMap<>();
+
+	private final AtomicLong droppedFrames = new AtomicLong();
+
+	private final AtomicLong forcedDisconnects = new AtomicLong();
+
+	public void register(BoundedSendSession session) {
+		sessions.put(session.getId(), session);
+	}
+
+	public void unregister(String sessionId) {
+		sessions.remove(sessionId);
+	}
+
+	public BoundedSendSession get(String sessionId) {
+		return sessions.get(sessionId);
+	}
+
+	public void frameDropped() {
+		droppedFrames.incrementAndGet();
+	}
+
+	public void forcedDisconnect() {
+		forcedDisconnects.incrementAndGet();
+	}
+
+	@Scheduled(fixedDelayString = "${websocket.session.stall-check-ms}")
+	public void disconnectStalledSessions() {
+		long now = System.currentTimeMillis();
+		for (BoundedSendSession session : sessions.values())
+			session.checkSendTimeLimit(now);
+	}
+
+	public WebSocketBackpressureMetricsDto snapshot() {
+		Map<String, Integer> queuedBytesBySession = new HashMap<>();
+		long totalQueuedBytes = 0;
+		for (BoundedSendSession session : sessions.values()) {
+			int queuedBytes = session.getQueuedBytes();
+			if (queuedBytes > 0)
+				queuedBytesBySession.put(session.getId(), queuedBytes);
+			totalQueuedBytes += queuedBytes;
+		}
+
+		WebSocketBackpressureMetricsDto dto = new WebSocketBackpressureMetricsDto();
+		dto.setOpenSessions(sessions.size());
+		dto.setTotalQueuedBytes(totalQueuedBytes);
+		dto.setQueuedBytesBySession(queuedBytesBySession);
+		dto.setDroppedFrames(droppedFrames.get());
+		dto.setForcedDisconnects(forcedDisconnects.get());
+		return dto;
+	}
+
+}
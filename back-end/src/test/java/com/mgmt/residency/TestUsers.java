@@ -0,0 +1,19 @@
+package com.mgmt.residency;
+
+
+import com.mgmt.residency.TestUsers;
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.entity.User;
+
+// Unsaved active users with a unique email, for tests that need real rows in the users table
+public final class TestUsers {
+
+	private TestUsers() {
+	}
+
+	public static User newUser(UsersRole role) {
+		User user = TestUsers.newUser(role);
+		return user;
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.mgmt.residency.config;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.ClassUtils;
+
+class WebSocketConfigurationTests {
+
+	@Test
+	void relayWithoutReactorNettyFailsAtStartup() {
+		assumeFalse(ClassUtils.isPresent("reactor.netty.tcp.TcpClient", getClass().getClassLoader()),
+				"reactor-netty is on the classpath (-Pbroker-relay)");
+
+		WebSocketConfiguration configuration = new WebSocketConfiguration();
+		ReflectionTestUtils.setField(configuration, "brokerType", "relay");
+		MessageBrokerRegistry registry = mock(MessageBrokerRegistry.class);
+
+		IllegalStateException error = assertThrows(IllegalStateException.class,
+				() -> configuration.configureMessageBroker(registry));
+		assertTrue(error.getMessage().contains("-Pbroker-relay"));
+		verifyNoInteractions(registry);
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.mgmt.residency.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+
+class LedgerWriterTests {
+
+	@Test
+	void csvQuotesFieldsThatNeedIt() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (LedgerWriter writer = LedgerFormat.CSV.open(out)) {
+			writer.writeRow(List.of("Payment ID", "Description"));
+			writer.writeRow(Arrays.asList(1L, "Lift repair, \"urgent\"", null, 12.5));
+		}
+
+		String csv = out.toString(StandardCharsets.UTF_8);
+		assertEquals("\uFEFFPayment ID,Description\r\n1,\"Lift repair, \"\"urgent\"\"\",,12.5\r\n", csv);
+	}
+
+	@Test
+	void csvNeutralisesFormulaCells() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (LedgerWriter writer = LedgerFormat.CSV.open(out)) {
+			writer.writeRow(Arrays.asList("=HYPERLINK(\"http://x\")", "+1", "-cmd", "@SUM(A1)", -12.5, "Lift"));
+		}
+
+		String csv = out.toString(StandardCharsets.UTF_8);
+		assertEquals("\uFEFF\"'=HYPERLINK(\"\"http://x\"\")\",'+1,'-cmd,'@SUM(A1),-12.5,Lift\r\n", csv);
+	}
+
+	@Test
+	void xlsxWritesSheetAsLastEntry() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (LedgerWriter writer = LedgerFormat.XLSX.open(out)) {
+			writer.writeRow(List.of("Description", "Amount"));
+			writer.writeRow(List.of("Pipes & <valves>", 42.0));
+		}
+
+		List<String> entries = new ArrayList<>();
+		String sheet = null;
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null) {
+				entries.add(entry.getName());
+				if (entry.getName().equals("xl/worksheets/sheet1.xml"))
+					sheet = new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+			}
+		}
+
+		assertEquals(List.of("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml", "xl/_rels/workbook.xml.rels",
+				"xl/worksheets/sheet1.xml"), entries);
+		assertTrue(sheet.contains("Pipes &amp; &lt;valves&gt;"));
+		assertTrue(sheet.contains("<c t=\"n\"><v>42.0</v></c>"));
+		assertTrue(sheet.endsWith("</sheetData></worksheet>"));
+	}
+
+}
@@ -0,0 +1,70 @@
+package com.mgmt.residency.security;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.mgmt.residency.constants.UsersRole;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthenticationInterceptorTests {
+
+	@Mock
+	private JwtUtil jwtUtil;
+
+	@Mock
+	private UserDetailsService userDetailsService;
+
+	@InjectMocks
+	private StompAuthenticationInterceptor interceptor;
+
+	@ParameterizedTest
+	@ValueSource(strings = { "/all/**", "/all/*/1/results", "/all/polls/*/results", "/all/polls/{id}/results",
+			"/queue/**" })
+	void residentsCannotSubscribeWithPatterns(String destination) {
+		assertThrows(MessagingException.class,
+				() -> interceptor.preSend(subscribe(destination, UsersRole.ROLE_RESIDENT), null));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "/all/polls/1/results", "/all//polls/1/results", "/all/polls//1/results" })
+	void residentsCannotSubscribeToPollResults(String destination) {
+		assertThrows(MessagingException.class,
+				() -> interceptor.preSend(subscribe(destination, UsersRole.ROLE_RESIDENT), null));
+	}
+
+	@Test
+	void adminsCanSubscribeToPollResults() {
+		assertDoesNotThrow(() -> interceptor.preSend(subscribe("/all/polls/1/results", UsersRole.ROLE_ADMIN), null));
+	}
+
+	@Test
+	void residentsCanSubscribeToTheirTopics() {
+		assertDoesNotThrow(() -> interceptor.preSend(subscribe("/all/user", UsersRole.ROLE_RESIDENT), null));
+		assertDoesNotThrow(
+				() -> interceptor.preSend(subscribe("/user/queue/unread-count", UsersRole.ROLE_RESIDENT), null));
+	}
+
+	private Message<byte[]> subscribe(String destination, UsersRole role) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		accessor.setDestination(destination);
+		accessor.setSessionId("session-1");
+		accessor.setUser(new StompUserPrincipal("user-1", role.name()));
+		accessor.setLeaveMutable(true);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+}
@@ -0,0 +1,81 @@
+package com.mgmt.residency.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mgmt.residency.repository.PollRepository;
+import com.mgmt.residency.repository.UserRepository;
+import com.mgmt.residency.repository.VoteJdbcRepository;
+import com.mgmt.residency.repository.VoteRepository;
+import com.mgmt.residency.voting.BufferedVote;
+
+@ExtendWith(MockitoExtension.class)
+class BufferedVoteWriterTests {
+
+	@Mock
+	private PollRepository pollRepository;
+
+	@Mock
+	private UserRepository userRepo;
+
+	@Mock
+	private VoteRepository voteRepo;
+
+	@Mock
+	private VoteJdbcRepository voteJdbcRepo;
+
+	@Mock
+	private PollTallyService pollTallyService;
+
+	@Mock
+	private PollResultPublisher pollResultPublisher;
+
+	@InjectMocks
+	private BufferedVoteWriter writer;
+
+	@Captor
+	private ArgumentCaptor<List<BufferedVote>> written;
+
+	@Test
+	void votesForDeletedPollsOrUsersAreDroppedNotRetried() {
+		when(pollRepository.findExistingIds(any())).thenReturn(List.of(1L));
+		when(userRepo.lockExistingIds(any())).thenReturn(List.of("user-1", "user-2"));
+
+		int changed = writer.write(List.of(new BufferedVote(1L, "user-1", "Yes", 1),
+				new BufferedVote(2L, "user-1", "Yes", 2), new BufferedVote(1L, "user-3", "No", 3)));
+
+		assertEquals(1, changed);
+		verify(voteJdbcRepo).upsertVotes(written.capture());
+		assertEquals(1, written.getValue().size());
+		assertEquals("user-1", written.getValue().get(0).getUserId());
+		verify(pollTallyService).applyDeltas(1L, Map.of("Yes", 1L));
+		verify(voteRepo, never()).findBallots(eq(2L), any());
+	}
+
+	@Test
+	void batchOfOnlyOrphansWritesNothing() {
+		when(pollRepository.findExistingIds(any())).thenReturn(List.of());
+		when(userRepo.lockExistingIds(any())).thenReturn(List.of("user-1"));
+
+		assertEquals(0, writer.write(List.of(new BufferedVote(7L, "user-1", "Yes", 1))));
+		verify(voteJdbcRepo, never()).upsertVotes(any());
+		verify(pollResultPublisher, never()).recordVote(any(), anyString(), anyString());
+	}
+
+}
@@ -0,0 +1,133 @@
+package com.mgmt.residency.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mgmt.residency.TestUsers;
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.entity.User;
+import com.mgmt.residency.repository.UserRepository;
+import com.mgmt.residency.request.dto.BulkIncomePaymentRequestDto;
+import com.mgmt.residency.request.dto.IncomePaymentRequestDto;
+import com.mgmt.residency.response.dto.BulkIncomePaymentResponseDto;
+
+// Run with -Dbenchmark=true against a disposable database; it logs rows per second for both write paths
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest
+class BulkIncomePaymentBenchmarkTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BulkIncomePaymentBenchmarkTests.class);
+
+	private static final int RESIDENTS = 50;
+
+	private static final int PAYMENTS = 2000;
+
+	@Autowired
+	private PaymentService paymentService;
+
+	@Autowired
+	private PaymentSummaryService paymentSummaryService;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final List<User> users = new ArrayList<>();
+
+	private final List<Long> paymentIds = new ArrayList<>();
+
+	private User admin;
+
+	private double createdIncome;
+
+	@BeforeEach
+	void setUp() {
+		admin = saveUser(UsersRole.ROLE_ADMIN);
+		for (int i = 0; i < RESIDENTS; i++)
+			saveUser(UsersRole.ROLE_RESIDENT);
+	}
+
+	@AfterEach
+	void tearDown() {
+		for (Long paymentId : paymentIds) {
+			jdbcTemplate.update("DELETE FROM user_payment WHERE payment_id = ?", paymentId);
+			jdbcTemplate.update("DELETE FROM payments WHERE id = ?", paymentId);
+		}
+		paymentSummaryService.applyTotals(-createdIncome, 0.0);
+
+		for (User user : users) {
+			jdbcTemplate.update("DELETE FROM payment_daily_rollups WHERE user_id = ?", user.getId());
+			jdbcTemplate.update("DELETE FROM user_payment_balances WHERE user_id = ?", user.getId());
+		}
+		userRepo.deleteAll(users);
+	}
+
+	@Test
+	void bulkPostingWritesMoreRowsPerSecondThanPerEntitySave() {
+		List<IncomePaymentRequestDto> requests = incomeRequests();
+		int rows = PAYMENTS * (1 + RESIDENTS);
+
+		// Baseline: one JPA save per payment, all in a single transaction so only the write path differs
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		long began = System.nanoTime();
+		transaction.executeWithoutResult(status -> {
+			for (IncomePaymentRequestDto request : requests)
+				paymentIds.add(paymentService.createIncomePayment(admin.getId(), request).getId());
+		});
+		long perEntity = rows * 1_000_000_000L / (System.nanoTime() - began);
+
+		BulkIncomePaymentRequestDto bulkRequest = new BulkIncomePaymentRequestDto();
+		bulkRequest.setPayments(requests);
+		began = System.nanoTime();
+		BulkIncomePaymentResponseDto response = paymentService.createIncomePayments(admin.getId(), bulkRequest);
+		long bulk = rows * 1_000_000_000L / (System.nanoTime() - began);
+		paymentIds.addAll(response.getPaymentIds());
+
+		LOGGER.info("Rows/sec posting {} payments x {} shares: perEntitySave={}, bulk={}", PAYMENTS, RESIDENTS,
+				perEntity, bulk);
+		assertEquals(PAYMENTS, response.getPaymentIds().size());
+		assertEquals(PAYMENTS * RESIDENTS, response.getUserPaymentCount());
+	}
+
+	private List<IncomePaymentRequestDto> incomeRequests() {
+		List<String> residentIds = users.stream().filter(u -> u != admin).map(User::getId).toList();
+		List<IncomePaymentRequestDto> requests = new ArrayList<>();
+		for (int i = 0; i < PAYMENTS; i++) {
+			IncomePaymentRequestDto dto = new IncomePaymentRequestDto();
+			dto.setAmount(100.0);
+			dto.setDescription("Benchmark " + i);
+			dto.setUserIds(residentIds);
+			requests.add(dto);
+			// Each request is posted once per path
+			createdIncome += 2 * dto.getAmount();
+		}
+		return requests;
+	}
+
+	private User saveUser(UsersRole role) {
+		User user = TestUsers.newUser(role);
+		user = userRepo.save(user);
+		users.add(user);
+		return user;
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.mgmt.residency.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.mgmt.residency.TestUsers;
+import com.mgmt.residency.constants.NotificationType;
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.entity.User;
+import com.mgmt.residency.repository.UserRepository;
+
+// Run with -Dbenchmark=true against a disposable database; it logs how long a 10k-recipient fan-out takes
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest
+class NotificationFanOutBenchmarkTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(NotificationFanOutBenchmarkTests.class);
+
+	private static final int RECIPIENTS = 10_000;
+
+	@Autowired
+	private NotificationService notificationService;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final List<User> users = new ArrayList<>();
+
+	private User admin;
+
+	@BeforeEach
+	void setUp() {
+		admin = newUser(UsersRole.ROLE_ADMIN);
+		for (int i = 0; i < RECIPIENTS; i++)
+			newUser(UsersRole.ROLE_RESIDENT);
+		userRepo.saveAll(users);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM notification WHERE sender_id = ?", admin.getId());
+		for (User user : users) {
+			jdbcTemplate.update("DELETE FROM notification_outbox WHERE recipient_id = ?", user.getId());
+			jdbcTemplate.update("DELETE FROM notification_unread_counter WHERE user_id = ?", user.getId());
+		}
+		userRepo.deleteAll(users);
+	}
+
+	@Test
+	void announcementToTenThousandResidents() {
+		List<User> recipients = users.subList(1, users.size());
+
+		long startedAt = System.nanoTime();
+		notificationService.sendNotifications(admin, recipients, "Benchmark announcement",
+				NotificationType.ANNOUNCEMENT.name());
+		long elapsedNanos = System.nanoTime() - startedAt;
+
+		LOGGER.info("Fan-out to {} recipients took {} ms ({} notifications/s)", RECIPIENTS, elapsedNanos / 1_000_000,
+				RECIPIENTS * 1_000_000_000L / elapsedNanos);
+		assertEquals(RECIPIENTS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification WHERE sender_id = ?",
+				Integer.class, admin.getId()));
+	}
+
+	private User newUser(UsersRole role) {
+		User user = TestUsers.newUser(role);
+		users.add(user);
+		return user;
+	}
+
+}
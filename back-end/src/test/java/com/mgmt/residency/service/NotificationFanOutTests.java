@@ -0,0 +1,135 @@
+package com.mgmt.residency.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mgmt.residency.constants.AppConstant;
+import com.mgmt.residency.constants.NotificationType;
+import com.mgmt.residency.entity.User;
+import com.mgmt.residency.repository.NotificationJdbcRepository;
+import com.mgmt.residency.repository.NotificationUnreadCounterRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationFanOutTests {
+
+	@Mock
+	private NotificationJdbcRepository notificationJdbcRepo;
+
+	@Mock
+	private NotificationUnreadCounterRepository unreadCounterRepo;
+
+	@Mock
+	private WebSocketSessionRegistry sessionRegistry;
+
+	@Spy
+	private ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+	@InjectMocks
+	private NotificationService notificationService;
+
+	@Captor
+	private ArgumentCaptor<List<String>> receivers;
+
+	@Captor
+	private ArgumentCaptor<List<String>> outboxRecipients;
+
+	@Test
+	void pollIsQueuedOnceWhateverTheAudience() {
+		User sender = user("admin");
+
+		for (int residents : new int[] { 10, 100, 1000 }) {
+			clearInvocations(notificationJdbcRepo);
+			notificationService.sendNotifications(sender, users(residents), "poll", NotificationType.POLL.name());
+
+			verify(notificationJdbcRepo).insertNotifications(eq("admin"), receivers.capture(), anyString(),
+					any(LocalDateTime.class));
+			verify(notificationJdbcRepo).insertOutbox(outboxRecipients.capture(), eq(AppConstant.SPECIFIC_USER_TOPIC),
+					anyString(), any(LocalDateTime.class));
+			assertEquals(residents, receivers.getValue().size());
+			assertEquals(Collections.singletonList(null), outboxRecipients.getValue());
+		}
+	}
+
+	@Test
+	void announcementsAreQueuedForConnectedRecipientsOnly() {
+		when(sessionRegistry.isConnected(anyString())).thenAnswer(call -> {
+			String userId = call.getArgument(0);
+			return Integer.parseInt(userId.substring("user-".length())) % 2 == 0;
+		});
+
+		notificationService.sendNotifications(user("admin"), users(50), "news", NotificationType.ANNOUNCEMENT.name());
+
+		verify(notificationJdbcRepo).insertNotifications(eq("admin"), receivers.capture(), anyString(),
+				any(LocalDateTime.class));
+		verify(notificationJdbcRepo).insertOutbox(outboxRecipients.capture(), eq(AppConstant.ANNOUNCEMENT_QUEUE),
+				anyString(), any(LocalDateTime.class));
+		assertEquals(50, receivers.getValue().size());
+		assertEquals(25, outboxRecipients.getValue().size());
+		assertEquals("user-0", outboxRecipients.getValue().get(0));
+	}
+
+	@Test
+	void unreadCountersAreIncrementedWithOneBulkUpsert() {
+		notificationService.sendNotifications(user("admin"), users(3), "news", NotificationType.ANNOUNCEMENT.name());
+
+		verify(notificationJdbcRepo).adjustUnreadCounts(eq(List.of("user-0", "user-1", "user-2")), eq(1));
+		verify(unreadCounterRepo, never()).findCounts(any());
+		verify(notificationJdbcRepo, never()).insertOutboxMessages(any(), anyString(), any(LocalDateTime.class));
+	}
+
+	@Test
+	void tenThousandRecipientsFanOutInConstantRepositoryCalls() {
+		when(sessionRegistry.isConnected(anyString())).thenReturn(true);
+		List<User> recipients = users(10_000);
+
+		long startedAt = System.nanoTime();
+		notificationService.sendNotifications(user("admin"), recipients, "news", NotificationType.ANNOUNCEMENT.name());
+		long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+		verify(notificationJdbcRepo).insertNotifications(eq("admin"), receivers.capture(), anyString(),
+				any(LocalDateTime.class));
+		verify(notificationJdbcRepo).adjustUnreadCounts(eq(receivers.getValue()), eq(1));
+		verify(notificationJdbcRepo).insertOutbox(outboxRecipients.capture(), eq(AppConstant.ANNOUNCEMENT_QUEUE),
+				anyString(), any(LocalDateTime.class));
+		assertEquals(10_000, receivers.getValue().size());
+		assertEquals(10_000, outboxRecipients.getValue().size());
+		// Service-side cost only; NotificationFanOutBenchmarkTests measures the database writes
+		assertTrue(elapsedMillis < 5_000, "Fan-out to 10k recipients took " + elapsedMillis + " ms");
+	}
+
+	private List<User> users(int count) {
+		return IntStream.range(0, count).mapToObj(i -> user("user-" + i)).collect(Collectors.toList());
+	}
+
+	private User user(String id) {
+		User user = new User();
+		user.setId(id);
+		user.setFirstName("First");
+		user.setLastName("Last");
+		return user;
+	}
+
+}
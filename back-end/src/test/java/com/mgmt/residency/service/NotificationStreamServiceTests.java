@@ -0,0 +1,172 @@
+package com.mgmt.residency.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mgmt.residency.entity.Notification;
+import com.mgmt.residency.entity.User;
+import com.mgmt.residency.repository.NotificationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamServiceTests {
+
+	private static final int REPLAY_LIMIT = 5;
+
+	@Mock
+	private NotificationRepository notificationRepo;
+
+	@Mock
+	private NotificationService notificationService;
+
+	@InjectMocks
+	private NotificationStreamService streamService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(streamService, "timeoutMs", 60_000L);
+		ReflectionTestUtils.setField(streamService, "replayLimit", REPLAY_LIMIT);
+		ReflectionTestUtils.setField(streamService, "retryMs", 1_000L);
+		ReflectionTestUtils.setField(streamService, "commitGraceMs", 0L);
+	}
+
+	@Test
+	void freshSubscriptionStartsAtSettledFrontierNotAStaleCursor() {
+		// The frontier keeps moving while nobody is subscribed, so a fresh stream does not replay old rows
+		when(notificationRepo.findMaxId()).thenReturn(10L);
+		streamService.pushNew();
+		when(notificationRepo.findMaxId()).thenReturn(500L);
+		streamService.pushNew();
+
+		streamService.subscribe("user-1", null);
+
+		verify(notificationRepo, never()).findByReceiverAfter(any(), anyLong(), any());
+		when(notificationRepo.findMaxId()).thenReturn(501L);
+		when(notificationRepo.findByReceiversBetween(any(), eq(500L), eq(501L), any(Pageable.class)))
+				.thenReturn(notifications("user-1", 499, 501));
+		streamService.pushNew();
+
+		verify(notificationService, times(1)).toNotificationDto(any());
+	}
+
+	@Test
+	void lowerIdCommittingAfterFreshSubscriptionIsStillPushed() {
+		ReflectionTestUtils.setField(streamService, "commitGraceMs", 60_000L);
+		when(notificationRepo.findMaxId()).thenReturn(10L);
+		streamService.pushNew();
+
+		// 12 is visible when the client loads its inbox and subscribes; 11 commits afterwards
+		Notification late = notification("user-1", 11);
+		Notification early = notification("user-1", 12);
+		when(notificationRepo.findMaxId()).thenReturn(12L);
+		streamService.subscribe("user-1", null);
+
+		when(notificationRepo.findByReceiversBetween(any(), eq(10L), eq(12L), any(Pageable.class)))
+				.thenReturn(List.of(late, early));
+		streamService.pushNew();
+
+		verify(notificationService).toNotificationDto(late);
+	}
+
+	@Test
+	void resumeReplaysMissedRows() {
+		List<Notification> missed = notifications("user-1", 41, 42, 43);
+		when(notificationRepo.findByReceiverAfter(eq("user-1"), eq(40L), any())).thenReturn(missed);
+
+		streamService.subscribe("user-1", "40");
+
+		for (Notification notification : missed)
+			verify(notificationService).toNotificationDto(notification);
+	}
+
+	@Test
+	void resumeTooFarBehindResyncsAndSkipsOlderRows() {
+		when(notificationRepo.findMaxId()).thenReturn(900L);
+		streamService.pushNew();
+		when(notificationRepo.findByReceiverAfter(eq("user-1"), eq(0L), any()))
+				.thenReturn(notifications("user-1", 1, 2, 3, 4, 5));
+
+		streamService.subscribe("user-1", "0");
+		verify(notificationService, times(REPLAY_LIMIT)).toNotificationDto(any());
+
+		when(notificationRepo.findMaxId()).thenReturn(905L);
+		when(notificationRepo.findByReceiversBetween(any(), anyLong(), eq(905L), any(Pageable.class)))
+				.thenReturn(notifications("user-1", 6, 7));
+		streamService.pushNew();
+		verify(notificationService, times(REPLAY_LIMIT)).toNotificationDto(any());
+	}
+
+	@Test
+	void lowerIdCommittingLateIsStillPushed() {
+		ReflectionTestUtils.setField(streamService, "commitGraceMs", 60_000L);
+		when(notificationRepo.findMaxId()).thenReturn(10L);
+		streamService.pushNew();
+		streamService.subscribe("user-1", null);
+
+		// Id 11 belongs to a bulk fan-out that has not committed yet, 12 is already visible
+		Notification late = notification("user-1", 11);
+		Notification early = notification("user-1", 12);
+		when(notificationRepo.findMaxId()).thenReturn(12L);
+		when(notificationRepo.findByReceiversBetween(any(), eq(10L), eq(12L), any(Pageable.class)))
+				.thenReturn(List.of(early), List.of(late, early));
+
+		streamService.pushNew();
+		verify(notificationService).toNotificationDto(early);
+		verify(notificationService, never()).toNotificationDto(late);
+
+		streamService.pushNew();
+		verify(notificationService).toNotificationDto(late);
+		verify(notificationService, times(1)).toNotificationDto(early);
+	}
+
+	@Test
+	void fanOutReachesOnlySubscribedReceivers() {
+		when(notificationRepo.findMaxId()).thenReturn(0L);
+		streamService.pushNew();
+		streamService.subscribe("user-1", null);
+		streamService.subscribe("user-2", null);
+
+		List<Notification> created = List.of(notification("user-1", 1), notification("user-2", 2),
+				notification("user-1", 3));
+		when(notificationRepo.findMaxId()).thenReturn(3L);
+		when(notificationRepo.findByReceiversBetween(any(), eq(0L), eq(3L), any(Pageable.class))).thenReturn(created);
+
+		streamService.pushNew();
+
+		for (Notification notification : created)
+			verify(notificationService).toNotificationDto(notification);
+		assertEquals(3, created.size());
+	}
+
+	private List<Notification> notifications(String receiverId, long... ids) {
+		return LongStream.of(ids).mapToObj(id -> notification(receiverId, id)).collect(Collectors.toList());
+	}
+
+	private Notification notification(String receiverId, long id) {
+		User receiver = new User();
+		receiver.setId(receiverId);
+		Notification notification = new Notification();
+		notification.setId(id);
+		notification.setReceiver(receiver);
+		return notification;
+	}
+
+}
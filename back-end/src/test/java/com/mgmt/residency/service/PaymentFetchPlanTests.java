@@ -0,0 +1,111 @@
+package com.mgmt.residency.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mgmt.residency.TestUsers;
+import com.mgmt.residency.constants.PaymentType;
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.entity.FileMetadata;
+import com.mgmt.residency.entity.Payment;
+import com.mgmt.residency.entity.User;
+import com.mgmt.residency.entity.UserPayment;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PaymentFetchPlanTests {
+
+	@Autowired
+	private PaymentService paymentService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void combinedPaymentsRunFixedStatementCount() {
+		User admin = persistUser(UsersRole.ROLE_ADMIN);
+		List<User> residents = List.of(persistUser(UsersRole.ROLE_RESIDENT), persistUser(UsersRole.ROLE_RESIDENT));
+
+		persistPayments(admin, residents, 5);
+		long small = countStatements(
+				() -> paymentService.getCombinedPayments(admin.getId(), UsersRole.ROLE_ADMIN.name()));
+
+		persistPayments(admin, residents, 20);
+		long large = countStatements(
+				() -> paymentService.getCombinedPayments(admin.getId(), UsersRole.ROLE_ADMIN.name()));
+
+		assertEquals(3, small);
+		assertEquals(small, large);
+	}
+
+	@Test
+	void combinedPaymentsPageRunsFixedStatementCount() {
+		User admin = persistUser(UsersRole.ROLE_ADMIN);
+		List<User> residents = List.of(persistUser(UsersRole.ROLE_RESIDENT), persistUser(UsersRole.ROLE_RESIDENT));
+		persistPayments(admin, residents, 30);
+
+		long statements = countStatements(() -> paymentService.getCombinedPaymentsPage(residents.get(0).getId(),
+				UsersRole.ROLE_RESIDENT.name(), null, 25, null, null, null));
+
+		assertEquals(3, statements);
+	}
+
+	private long countStatements(Runnable call) {
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		call.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	private User persistUser(UsersRole role) {
+		User user = TestUsers.newUser(role);
+		entityManager.persist(user);
+		return user;
+	}
+
+	private void persistPayments(User creator, List<User> residents, int count) {
+		for (int i = 0; i < count; i++) {
+			Payment payment = new Payment();
+			payment.setType(i % 2 == 0 ? PaymentType.INCOME.name() : PaymentType.EXPENSE.name());
+			payment.setAmount(100.0);
+			payment.setDescription("Payment " + i);
+			payment.setCreatedBy(creator);
+			payment.setCreatedAt(LocalDateTime.now().minusMinutes(i));
+
+			List<UserPayment> shares = new ArrayList<>();
+			for (User resident : residents) {
+				UserPayment share = new UserPayment();
+				share.setUser(resident);
+				share.setPayment(payment);
+				share.setAmount(100.0 / residents.size());
+				share.setCreatedAt(payment.getCreatedAt());
+				shares.add(share);
+			}
+			payment.setUsers(shares);
+
+			FileMetadata file = new FileMetadata();
+			file.setFileName("receipt-" + i + ".pdf");
+			file.setFileType("pdf");
+			file.setFileSize(1024L);
+			payment.setFileMetadatas(new ArrayList<>(List.of(file)));
+
+			entityManager.persist(payment);
+		}
+	}
+
+}
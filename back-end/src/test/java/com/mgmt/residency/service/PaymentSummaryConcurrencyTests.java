@@ -0,0 +1,150 @@
+package com.mgmt.residency.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.mgmt.residency.TestUsers;
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.entity.Payment;
+import com.mgmt.residency.entity.PaymentSummary;
+import com.mgmt.residency.entity.User;
+import com.mgmt.residency.repository.UserRepository;
+import com.mgmt.residency.request.dto.IncomePaymentRequestDto;
+
+@SpringBootTest
+class PaymentSummaryConcurrencyTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PaymentSummaryConcurrencyTests.class);
+
+	private static final int THREADS = 16;
+
+	private static final int PAYMENTS = THREADS * 25;
+
+	@Autowired
+	private PaymentService paymentService;
+
+	@Autowired
+	private PaymentSummaryService paymentSummaryService;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final List<User> users = new ArrayList<>();
+
+	private final List<Payment> payments = Collections.synchronizedList(new ArrayList<>());
+
+	private User admin;
+
+	private double createdIncome;
+
+	@BeforeEach
+	void setUp() {
+		admin = saveUser(UsersRole.ROLE_ADMIN);
+		for (int i = 0; i < 4; i++)
+			saveUser(UsersRole.ROLE_RESIDENT);
+	}
+
+	@AfterEach
+	void tearDown() {
+		List<Long> paymentIds = payments.stream().map(Payment::getId).toList();
+		for (Long paymentId : paymentIds) {
+			jdbcTemplate.update("DELETE FROM user_payment WHERE payment_id = ?", paymentId);
+			jdbcTemplate.update("DELETE FROM payments WHERE id = ?", paymentId);
+		}
+		paymentSummaryService.applyTotals(-createdIncome, 0.0);
+
+		for (User user : users) {
+			jdbcTemplate.update("DELETE FROM payment_daily_rollups WHERE user_id = ?", user.getId());
+			jdbcTemplate.update("DELETE FROM user_payment_balances WHERE user_id = ?", user.getId());
+		}
+		userRepo.deleteAll(users);
+	}
+
+	@Test
+	void concurrentIncomePaymentsKeepExactSummaryTotals() throws Exception {
+		PaymentSummary before = paymentSummaryService.getCurrentSummary();
+		double incomeBefore = before == null ? 0.0 : before.getTotalIncome();
+		double expenseBefore = before == null ? 0.0 : before.getTotalExpense();
+		List<String> residentIds = users.stream().filter(u -> u != admin).map(User::getId).toList();
+
+		long startedAt = System.nanoTime();
+		runConcurrently(PAYMENTS, i -> {
+			IncomePaymentRequestDto dto = new IncomePaymentRequestDto();
+			dto.setAmount(amountFor(i));
+			dto.setDescription("Concurrency test " + i);
+			dto.setUserIds(residentIds);
+			payments.add(paymentService.createIncomePayment(admin.getId(), dto));
+		});
+		long elapsedNanos = System.nanoTime() - startedAt;
+
+		for (int i = 0; i < PAYMENTS; i++)
+			createdIncome += amountFor(i);
+
+		LOGGER.info("Created {} income payments on {} threads in {} ms ({} payments/s)", PAYMENTS, THREADS,
+				elapsedNanos / 1_000_000, String.format("%.0f", PAYMENTS / (elapsedNanos / 1_000_000_000.0)));
+
+		PaymentSummary after = paymentSummaryService.getCurrentSummary();
+		assertEquals(PAYMENTS, payments.size());
+		assertEquals(incomeBefore + createdIncome, after.getTotalIncome(), 0.001);
+		assertEquals(expenseBefore, after.getTotalExpense(), 0.001);
+	}
+
+	// Whole-cent amounts that vary per call so a lost update changes the total
+	private double amountFor(int index) {
+		return 10.0 + (index % 7) * 2.5;
+	}
+
+	private void runConcurrently(int calls, IndexedCall call) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < calls; i++) {
+				int index = i;
+				futures.add(executor.submit(() -> {
+					start.await();
+					call.run(index);
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures)
+				future.get();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private User saveUser(UsersRole role) {
+		User user = TestUsers.newUser(role);
+		user = userRepo.save(user);
+		users.add(user);
+		return user;
+	}
+
+	private interface IndexedCall {
+
+		void run(int index) throws Exception;
+
+	}
+
+}
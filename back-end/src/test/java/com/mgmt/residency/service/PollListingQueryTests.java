@@ -0,0 +1,102 @@
+package com.mgmt.residency.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mgmt.residency.TestUsers;
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.entity.Poll;
+import com.mgmt.residency.entity.User;
+import com.mgmt.residency.entity.Vote;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PollListingQueryTests {
+
+	@Autowired
+	private VotingService votingService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void pollPageRunsFixedStatementCount() {
+		User admin = persistUser(UsersRole.ROLE_ADMIN);
+		List<User> residents = List.of(persistUser(UsersRole.ROLE_RESIDENT), persistUser(UsersRole.ROLE_RESIDENT));
+
+		persistPolls(admin, residents, 5);
+		long small = countStatements(() -> votingService.getPollPage(residents.get(0).getId(),
+				UsersRole.ROLE_RESIDENT.name(), null, 50));
+
+		persistPolls(admin, residents, 20);
+		long large = countStatements(() -> votingService.getPollPage(residents.get(0).getId(),
+				UsersRole.ROLE_RESIDENT.name(), null, 50));
+
+		assertEquals(4, small);
+		assertEquals(small, large);
+	}
+
+	@Test
+	void adminPollListRunsFixedStatementCount() {
+		User admin = persistUser(UsersRole.ROLE_ADMIN);
+		List<User> residents = List.of(persistUser(UsersRole.ROLE_RESIDENT), persistUser(UsersRole.ROLE_RESIDENT));
+
+		persistPolls(admin, residents, 5);
+		long small = countStatements(
+				() -> votingService.getAllPollsForUser(admin.getId(), UsersRole.ROLE_ADMIN.name()));
+
+		persistPolls(admin, residents, 20);
+		long large = countStatements(
+				() -> votingService.getAllPollsForUser(admin.getId(), UsersRole.ROLE_ADMIN.name()));
+
+		assertEquals(small, large);
+	}
+
+	private long countStatements(Runnable call) {
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		call.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	private User persistUser(UsersRole role) {
+		User user = TestUsers.newUser(role);
+		entityManager.persist(user);
+		return user;
+	}
+
+	private void persistPolls(User creator, List<User> residents, int count) {
+		for (int i = 0; i < count; i++) {
+			Poll poll = new Poll();
+			poll.setQuestion("Question " + i);
+			poll.setOptions(new ArrayList<>(List.of("Yes", "No")));
+			poll.setCreatedAt(LocalDateTime.now().minusMinutes(i));
+			poll.setCreatedBy(creator);
+			entityManager.persist(poll);
+
+			for (User resident : residents) {
+				Vote vote = new Vote();
+				vote.setPoll(poll);
+				vote.setVotedBy(resident);
+				vote.setSelectedOption(i % 2 == 0 ? "Yes" : "No");
+				entityManager.persist(vote);
+			}
+		}
+	}
+
+}
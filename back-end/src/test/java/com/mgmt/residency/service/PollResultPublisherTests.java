@@ -0,0 +1,77 @@
+package com.mgmt.residency.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.mgmt.residency.response.dto.PollResultDeltaDto;
+
+@ExtendWith(MockitoExtension.class)
+class PollResultPublisherTests {
+
+	@Mock
+	private SimpMessagingTemplate template;
+
+	@Mock
+	private PollTallyService pollTallyService;
+
+	@InjectMocks
+	private PollResultPublisher publisher;
+
+	@Captor
+	private ArgumentCaptor<PollResultDeltaDto> messages;
+
+	@Test
+	void concurrentVotesAreCoalescedIntoOneMessagePerPoll() throws Exception {
+		when(pollTallyService.getTallies(any())).thenReturn(Map.of(1L, Map.of("Yes", 600L, "No", 400L)));
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		for (int i = 0; i < 1000; i++) {
+			String option = i % 5 < 3 ? "Yes" : "No";
+			executor.submit(() -> publisher.recordVote(1L, null, option));
+		}
+		executor.submit(() -> publisher.recordVote(2L, "Yes", "No"));
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+
+		publisher.publishPending();
+
+		verify(template).convertAndSend(eq("/all/polls/1/results"), messages.capture());
+		verify(template).convertAndSend(eq("/all/polls/2/results"), any(PollResultDeltaDto.class));
+		PollResultDeltaDto message = messages.getValue();
+		assertEquals(Map.of("Yes", 600L, "No", 400L), message.getDeltas());
+		assertEquals(1000, message.getVoteCount());
+	}
+
+	@Test
+	void nothingIsSentWithoutNewVotes() {
+		when(pollTallyService.getTallies(any())).thenReturn(Map.of());
+		publisher.recordVote(1L, null, "Yes");
+		publisher.publishPending();
+		publisher.publishPending();
+
+		verify(template, times(1)).convertAndSend(anyString(), any(PollResultDeltaDto.class));
+		verify(pollTallyService, never()).getTallies(List.of());
+	}
+
+}
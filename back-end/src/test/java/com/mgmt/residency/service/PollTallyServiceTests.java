@@ -0,0 +1,53 @@
+package com.mgmt.residency.service;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mgmt.residency.repository.PollOptionTallyRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PollTallyServiceTests {
+
+	@Mock
+	private PollOptionTallyRepository tallyRepo;
+
+	@InjectMocks
+	private PollTallyService pollTallyService;
+
+	@Test
+	void firstVoteIncrementsSelectedOption() {
+		pollTallyService.recordVote(1L, null, "Yes");
+
+		verify(tallyRepo).increment(1L, "Yes", 1L);
+	}
+
+	@Test
+	void changedVoteMovesOneCountInOptionOrder() {
+		pollTallyService.recordVote(1L, "Yes", "No");
+		pollTallyService.recordVote(1L, "No", "Yes");
+
+		InOrder order = inOrder(tallyRepo);
+		order.verify(tallyRepo).increment(1L, "No", 1L);
+		order.verify(tallyRepo).increment(1L, "Yes", -1L);
+		order.verify(tallyRepo).increment(1L, "No", -1L);
+		order.verify(tallyRepo).increment(1L, "Yes", 1L);
+	}
+
+	@Test
+	void sameOptionLeavesTalliesUntouched() {
+		pollTallyService.recordVote(1L, "Yes", "Yes");
+
+		verify(tallyRepo, never()).increment(anyLong(), anyString(), anyLong());
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.mgmt.residency.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.entity.FileMetadata;
+import com.mgmt.residency.entity.Payment;
+import com.mgmt.residency.repository.PaymentRepository;
+import com.mgmt.residency.storage.ReceiptStorage;
+
+@ExtendWith(MockitoExtension.class)
+class ReceiptServiceTests {
+
+	@Mock
+	private PaymentRepository paymentRepo;
+
+	@Mock
+	private ReceiptStorage receiptStorage;
+
+	@InjectMocks
+	private ReceiptService receiptService;
+
+	@ParameterizedTest
+	@CsvSource({ "pdf, application/pdf, inline", "image/png, image/png, inline", "jpg, image/jpeg, inline",
+			"text/html, application/octet-stream, attachment", "image/svg+xml, application/octet-stream, attachment",
+			"exe, application/octet-stream, attachment" })
+	void onlySafeReceiptTypesAreServedInline(String fileType, String contentType, String disposition)
+			throws Exception {
+		FileMetadata file = new FileMetadata();
+		file.setId(7L);
+		file.setFileName("receipt");
+		file.setFileType(fileType);
+		file.setContentHash("abc");
+		Payment payment = new Payment();
+		payment.setFileMetadatas(List.of(file));
+		when(paymentRepo.findByFileMetadatasId(7L)).thenReturn(payment);
+		when(receiptStorage.load("abc"))
+				.thenReturn(new ByteArrayResource("<script>alert(1)</script>".getBytes(StandardCharsets.UTF_8)));
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/receipt/7");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		receiptService.streamReceipt("admin", UsersRole.ROLE_ADMIN.name(), 7L, request, response);
+
+		assertEquals(contentType, response.getContentType());
+		assertTrue(response.getHeader("Content-Disposition").startsWith(disposition));
+		assertEquals("nosniff", response.getHeader("X-Content-Type-Options"));
+	}
+
+}
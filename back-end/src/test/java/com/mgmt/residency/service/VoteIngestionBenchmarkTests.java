@@ -0,0 +1,143 @@
+package com.mgmt.residency.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.mgmt.residency.TestUsers;
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.entity.Poll;
+import com.mgmt.residency.entity.User;
+import com.mgmt.residency.repository.PollRepository;
+import com.mgmt.residency.repository.UserRepository;
+import com.mgmt.residency.request.dto.VoteRequestDto;
+
+// Run with -Dbenchmark=true against a disposable database; it logs sustained votes per second for both paths
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = { "poll.vote-buffer.enabled=true",
+		"poll.vote-buffer.journal-dir=./target/vote-journal-benchmark" })
+class VoteIngestionBenchmarkTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(VoteIngestionBenchmarkTests.class);
+
+	private static final int THREADS = 32;
+
+	private static final int RESIDENTS = 200;
+
+	private static final int VOTES = 20000;
+
+	private static final List<String> OPTIONS = List.of("Yes", "No", "Abstain");
+
+	@Autowired
+	private VotingService votingService;
+
+	@Autowired
+	private VoteIngestionService voteIngestionService;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private PollRepository pollRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final List<User> users = new ArrayList<>();
+
+	private final List<Poll> polls = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		User admin = saveUser(UsersRole.ROLE_ADMIN);
+		for (int i = 0; i < RESIDENTS; i++)
+			saveUser(UsersRole.ROLE_RESIDENT);
+		polls.add(savePoll(admin));
+		polls.add(savePoll(admin));
+	}
+
+	@AfterEach
+	void tearDown() {
+		for (Poll poll : polls) {
+			jdbcTemplate.update("DELETE FROM votes WHERE poll_id = ?", poll.getId());
+			jdbcTemplate.update("DELETE FROM poll_option_tally WHERE poll_id = ?", poll.getId());
+			pollRepository.deleteById(poll.getId());
+		}
+		userRepo.deleteAll(users);
+	}
+
+	@Test
+	void bufferedIngestionSustainsMoreVotesPerSecond() throws Exception {
+		long direct = votesPerSecond(polls.get(0), votingService::castVote, () -> {
+		});
+		long burst = votesPerSecond(polls.get(1), voteIngestionService::accept, voteIngestionService::flush);
+
+		LOGGER.info("Sustained votes/sec over {} votes, {} threads: direct={}, buffered={}", VOTES, THREADS, direct,
+				burst);
+		assertEquals(RESIDENTS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM votes WHERE poll_id = ?",
+				Long.class, polls.get(1).getId()));
+	}
+
+	// Timing includes the final flush, so buffered votes are counted only once they are in the database
+	private long votesPerSecond(Poll poll, BiConsumer<VoteRequestDto, String> cast, Runnable drain)
+			throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < VOTES; i++) {
+				int index = i;
+				futures.add(executor.submit(() -> {
+					start.await();
+					VoteRequestDto dto = new VoteRequestDto();
+					dto.setPollId(poll.getId());
+					dto.setSelectedOption(OPTIONS.get(index % OPTIONS.size()));
+					cast.accept(dto, users.get(1 + index % RESIDENTS).getId());
+					return null;
+				}));
+			}
+			long began = System.nanoTime();
+			start.countDown();
+			for (Future<?> future : futures)
+				future.get();
+			drain.run();
+			return VOTES * 1_000_000_000L / (System.nanoTime() - began);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private Poll savePoll(User admin) {
+		Poll poll = new Poll();
+		poll.setQuestion("Approve the budget?");
+		poll.setOptions(new ArrayList<>(OPTIONS));
+		poll.setCreatedAt(LocalDateTime.now());
+		poll.setCreatedBy(admin);
+		return pollRepository.save(poll);
+	}
+
+	private User saveUser(UsersRole role) {
+		User user = TestUsers.newUser(role);
+		user = userRepo.save(user);
+		users.add(user);
+		return user;
+	}
+
+}
@@ -0,0 +1,136 @@
+package com.mgmt.residency.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.mgmt.residency.TestUsers;
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.entity.Poll;
+import com.mgmt.residency.entity.User;
+import com.mgmt.residency.repository.PollRepository;
+import com.mgmt.residency.repository.UserRepository;
+import com.mgmt.residency.repository.VoteRepository;
+import com.mgmt.residency.request.dto.VoteRequestDto;
+
+@SpringBootTest
+class VotingConcurrencyTests {
+
+	private static final int THREADS = 16;
+
+	private static final List<String> OPTIONS = List.of("Yes", "No", "Abstain");
+
+	@Autowired
+	private VotingService votingService;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private PollRepository pollRepository;
+
+	@Autowired
+	private VoteRepository voteRepo;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final List<User> users = new ArrayList<>();
+
+	private Poll poll;
+
+	@BeforeEach
+	void setUp() {
+		User admin = saveUser(UsersRole.ROLE_ADMIN);
+		poll = new Poll();
+		poll.setQuestion("Approve the budget?");
+		poll.setOptions(new ArrayList<>(OPTIONS));
+		poll.setCreatedAt(LocalDateTime.now());
+		poll.setCreatedBy(admin);
+		poll = pollRepository.save(poll);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM votes WHERE poll_id = ?", poll.getId());
+		jdbcTemplate.update("DELETE FROM poll_option_tally WHERE poll_id = ?", poll.getId());
+		pollRepository.deleteById(poll.getId());
+		userRepo.deleteAll(users);
+	}
+
+	@Test
+	void sameResidentVotingConcurrentlyKeepsOneVote() throws Exception {
+		User resident = saveUser(UsersRole.ROLE_RESIDENT);
+
+		runConcurrently(THREADS * 4, i -> vote(resident, OPTIONS.get(i % OPTIONS.size())));
+
+		assertEquals(1, voteRepo.countByPollIdAndVotedById(poll.getId(), resident.getId()));
+	}
+
+	@Test
+	void manyResidentsVotingConcurrentlyKeepOneVoteEach() throws Exception {
+		List<User> residents = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++)
+			residents.add(saveUser(UsersRole.ROLE_RESIDENT));
+
+		runConcurrently(THREADS * 8, i -> vote(residents.get(i % THREADS), OPTIONS.get(i % OPTIONS.size())));
+
+		for (User resident : residents)
+			assertEquals(1, voteRepo.countByPollIdAndVotedById(poll.getId(), resident.getId()));
+	}
+
+	private void vote(User resident, String option) {
+		VoteRequestDto dto = new VoteRequestDto();
+		dto.setPollId(poll.getId());
+		dto.setSelectedOption(option);
+		votingService.castVote(dto, resident.getId());
+	}
+
+	private void runConcurrently(int calls, IndexedCall call) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < calls; i++) {
+				int index = i;
+				futures.add(executor.submit(() -> {
+					start.await();
+					call.run(index);
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures)
+				future.get();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private User saveUser(UsersRole role) {
+		User user = TestUsers.newUser(role);
+		user = userRepo.save(user);
+		users.add(user);
+		return user;
+	}
+
+	private interface IndexedCall {
+
+		void run(int index) throws Exception;
+
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.mgmt.residency.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class LocalReceiptStorageTests {
+
+	private static final long SMALL_HEAP = 128L * 1024 * 1024;
+
+	@TempDir
+	Path rootDir;
+
+	private LocalReceiptStorage storage;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		storage = new LocalReceiptStorage();
+		ReflectionTestUtils.setField(storage, "rootDir", rootDir.toString());
+		storage.init();
+	}
+
+	@Test
+	void storesUploadLargerThanHeap() throws Exception {
+		// Surefire forks this class with -Xmx64m, so ~80MB is written; on a bigger heap it only runs on request
+		long maxMemory = Runtime.getRuntime().maxMemory();
+		assumeTrue(maxMemory <= SMALL_HEAP || Boolean.getBoolean("large-upload"),
+				"Heap is " + maxMemory / (1024 * 1024) + "MB; run with -Dlarge-upload=true to write a larger file");
+		long size = maxMemory + 16L * 1024 * 1024;
+
+		StoredReceipt stored = storage.store(new GeneratedChannel(size, 7));
+
+		assertEquals(size, stored.getSize());
+		assertEquals(expectedHash(size, 7), stored.getContentHash());
+		assertTrue(storage.exists(stored.getContentHash()));
+		assertEquals(size, storage.load(stored.getContentHash()).contentLength());
+	}
+
+	@Test
+	void deduplicatesIdenticalReceipts() throws Exception {
+		StoredReceipt first = storage.store(new GeneratedChannel(1024 * 1024, 3));
+		StoredReceipt second = storage.store(new GeneratedChannel(1024 * 1024, 3));
+
+		assertEquals(first.getContentHash(), second.getContentHash());
+		try (var files = Files.walk(rootDir)) {
+			assertEquals(1, files.filter(Files::isRegularFile).count());
+		}
+	}
+
+	private String expectedHash(long size, int seed) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		ByteBuffer buffer = ByteBuffer.allocate(32 * 1024);
+		try (GeneratedChannel channel = new GeneratedChannel(size, seed)) {
+			while (channel.read(buffer) >= 0) {
+				buffer.flip();
+				digest.update(buffer);
+				buffer.clear();
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static class GeneratedChannel implements ReadableByteChannel {
+
+		private final long size;
+
+		private final int seed;
+
+		private long position;
+
+		GeneratedChannel(long size, int seed) {
+			this.size = size;
+			this.seed = seed;
+		}
+
+		@Override
+		public int read(ByteBuffer dst) {
+			if (position >= size)
+				return -1;
+			int count = (int) Math.min(dst.remaining(), size - position);
+			for (int i = 0; i < count; i++) {
+				dst.put((byte) ((position + i) * 31 + seed));
+			}
+			position += count;
+			return count;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return true;
+		}
+
+		@Override
+		public void close() {
+		}
+
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.mgmt.residency.voting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class VoteBufferTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(VoteBufferTests.class);
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void lastWriteWinsPerPollAndResident() {
+		VoteBuffer buffer = new VoteBuffer(4);
+		buffer.put(new BufferedVote(1L, "user-1", "Yes", 1));
+		buffer.put(new BufferedVote(1L, "user-1", "No", 3));
+		buffer.put(new BufferedVote(1L, "user-1", "Abstain", 2));
+		buffer.put(new BufferedVote(2L, "user-1", "Yes", 4));
+
+		Map<String, String> drained = buffer.drain().stream()
+				.collect(Collectors.toMap(BufferedVote::key, BufferedVote::getSelectedOption));
+
+		assertEquals(Map.of("1:user-1", "No", "2:user-1", "Yes"), drained);
+		assertEquals(0, buffer.size());
+	}
+
+	@Test
+	void journalReplaysUnflushedSegmentsInOrder() throws Exception {
+		VoteJournal journal = new VoteJournal(dir);
+		journal.sync(journal.append(1L, "user-1", "Yes"));
+		journal.sync(journal.append(1L, "user-1", "Option with\ttab"));
+		journal.sync(journal.append(1L, "user-2", "No"));
+		journal.close();
+
+		VoteJournal reopened = new VoteJournal(dir);
+		VoteBuffer buffer = new VoteBuffer(4);
+		buffer.putAll(reopened.replay());
+		buffer.put(new BufferedVote(1L, "user-2", "Yes", reopened.append(1L, "user-2", "Yes")));
+
+		Map<String, String> drained = buffer.drain().stream()
+				.collect(Collectors.toMap(BufferedVote::key, BufferedVote::getSelectedOption));
+		assertEquals(Map.of("1:user-1", "Option with\ttab", "1:user-2", "Yes"), drained);
+		reopened.close();
+	}
+
+	@Test
+	void rotatedSegmentsAreDeletedOnceFlushed() throws Exception {
+		VoteJournal journal = new VoteJournal(dir);
+		journal.append(1L, "user-1", "Yes");
+
+		List<Path> segments = journal.rotate();
+		journal.append(1L, "user-2", "No");
+		journal.delete(segments);
+		journal.close();
+
+		List<BufferedVote> replayed = new VoteJournal(dir).replay();
+		assertEquals(1, replayed.size());
+		assertEquals("user-2", replayed.get(0).getUserId());
+	}
+
+	@Test
+	void tornLastLineIsSkipped() throws Exception {
+		VoteJournal journal = new VoteJournal(dir);
+		journal.append(1L, "user-1", "Yes");
+		journal.close();
+		try (var files = Files.list(dir)) {
+			Path segment = files.findFirst().orElseThrow();
+			Files.write(segment, "1\tuser-2\tTm".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+		}
+
+		List<BufferedVote> replayed = new VoteJournal(dir).replay();
+		assertEquals(1, replayed.size());
+		assertTrue(replayed.get(0).getSequence() < 0);
+	}
+
+	// Opt-in with -Dbenchmark=true: the accept path without a database (journal append, group fsync, buffer put)
+	@Test
+	@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+	void journalledAcceptThroughput() throws Exception {
+		int threads = 32;
+		int votes = 200_000;
+		VoteJournal journal = new VoteJournal(dir);
+		VoteBuffer buffer = new VoteBuffer(16);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch done = new CountDownLatch(votes);
+		try {
+			long began = System.nanoTime();
+			for (int i = 0; i < votes; i++) {
+				String userId = "user-" + (i % 2000);
+				executor.execute(() -> {
+					try {
+						long sequence = journal.append(1L, userId, "Yes");
+						journal.sync(sequence);
+						buffer.put(new BufferedVote(1L, userId, "Yes", sequence));
+					} catch (Exception e) {
+						throw new IllegalStateException(e);
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+			done.await();
+			long votesPerSecond = votes * 1_000_000_000L / (System.nanoTime() - began);
+			LOGGER.info("Journalled accepts: {} votes/sec over {} votes, {} threads", votesPerSecond, votes, threads);
+		} finally {
+			executor.shutdownNow();
+			journal.close();
+		}
+		assertEquals(2000, buffer.size());
+	}
+
+}
@@ -0,0 +1,136 @@
+package com.mgmt.residency.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+class BoundedSendSessionTests {
+
+	private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor();
+
+	private final WebSocketBackpressureMetrics metrics = new WebSocketBackpressureMetrics();
+
+	private final CountDownLatch released = new CountDownLatch(1);
+
+	private final List<String> delivered = new CopyOnWriteArrayList<>();
+
+	private WebSocketSession slowClient;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		slowClient = mock(WebSocketSession.class);
+		when(slowClient.getId()).thenReturn("session-1");
+		doAnswer(call -> {
+			released.await(5, TimeUnit.SECONDS);
+			delivered.add(((WebSocketMessage<?>) call.getArgument(0)).getPayload().toString());
+			return null;
+		}).when(slowClient).sendMessage(any());
+	}
+
+	@AfterEach
+	void tearDown() {
+		flushExecutor.shutdownNow();
+	}
+
+	@Test
+	void dropsOldestFramesWhenQueueIsFull() throws Exception {
+		BoundedSendSession session = new BoundedSendSession(slowClient, flushExecutor, metrics, 1024, 3, 60_000,
+				OverflowPolicy.DROP_OLDEST);
+
+		session.sendMessage(new TextMessage("in-flight"));
+		waitForFlushToStart();
+		for (int i = 1; i <= 5; i++) {
+			session.sendMessage(new TextMessage("frame-" + i));
+		}
+
+		assertEquals(2, metrics.snapshot().getDroppedFrames());
+		released.countDown();
+		flushExecutor.shutdown();
+		flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+		assertEquals(List.of("in-flight", "frame-3", "frame-4", "frame-5"), delivered);
+	}
+
+	@Test
+	void disconnectsWhenQueueOverflowsUnderDisconnectPolicy() throws Exception {
+		BoundedSendSession session = new BoundedSendSession(slowClient, flushExecutor, metrics, 1024, 2, 60_000,
+				OverflowPolicy.DISCONNECT);
+
+		session.sendMessage(new TextMessage("in-flight"));
+		waitForFlushToStart();
+		for (int i = 1; i <= 3; i++) {
+			session.sendMessage(new TextMessage("frame-" + i));
+		}
+
+		assertEquals(1, metrics.snapshot().getForcedDisconnects());
+		verify(slowClient).close(CloseStatus.SESSION_NOT_RELIABLE);
+		assertEquals(0, session.getQueuedBytes());
+		released.countDown();
+	}
+
+	@Test
+	void disconnectsWhenSendIsBlockedTooLong() throws Exception {
+		BoundedSendSession session = new BoundedSendSession(slowClient, flushExecutor, metrics, 1024, 100, 50,
+				OverflowPolicy.DROP_OLDEST);
+
+		session.sendMessage(new TextMessage("in-flight"));
+		waitForFlushToStart();
+		Thread.sleep(100);
+		session.sendMessage(new TextMessage("late"));
+
+		assertEquals(1, metrics.snapshot().getForcedDisconnects());
+		verify(slowClient).close(CloseStatus.SESSION_NOT_RELIABLE);
+		released.countDown();
+	}
+
+	@Test
+	void stalledSessionIsDisconnectedWithoutNewTraffic() throws Exception {
+		BoundedSendSession session = new BoundedSendSession(slowClient, flushExecutor, metrics, 1024, 100, 1000,
+				OverflowPolicy.DROP_OLDEST);
+		metrics.register(session);
+
+		session.sendMessage(new TextMessage("in-flight"));
+		waitForFlushToStart();
+		metrics.disconnectStalledSessions();
+		assertEquals(0, metrics.snapshot().getForcedDisconnects());
+
+		Thread.sleep(1100);
+		metrics.disconnectStalledSessions();
+
+		assertEquals(1, metrics.snapshot().getForcedDisconnects());
+		verify(slowClient).close(CloseStatus.SESSION_NOT_RELIABLE);
+		released.countDown();
+	}
+
+	private void waitForFlushToStart() throws Exception {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (System.currentTimeMillis() < deadline) {
+			try {
+				verify(slowClient).sendMessage(any());
+				return;
+			} catch (AssertionError e) {
+				Thread.sleep(5);
+			}
+		}
+		assertTrue(false, "flush did not start");
+	}
+
+}
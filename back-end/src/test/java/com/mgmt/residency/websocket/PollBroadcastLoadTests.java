@@ -0,0 +1,189 @@
+package com.mgmt.residency.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import com.mgmt.residency.TestUsers;
+import com.mgmt.residency.constants.AppConstant;
+import com.mgmt.residency.constants.NotificationType;
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.entity.User;
+import com.mgmt.residency.repository.UserRepository;
+import com.mgmt.residency.security.JwtUtil;
+import com.mgmt.residency.security.service.UserDetailsImpl;
+import com.mgmt.residency.service.NotificationService;
+
+// Run with -Dbenchmark=true against a disposable database; real STOMP clients count the poll frames they receive
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "websocket.broker.type=simple")
+class PollBroadcastLoadTests {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PollBroadcastLoadTests.class);
+
+	private static final int[] AUDIENCES = { 10, 50, 100 };
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private NotificationService notificationService;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private SimpUserRegistry userRegistry;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final List<User> users = new ArrayList<>();
+
+	private final List<StompSession> sessions = new ArrayList<>();
+
+	private WebSocketStompClient stompClient;
+
+	@AfterEach
+	void tearDown() {
+		disconnectAll();
+		if (stompClient != null)
+			stompClient.stop();
+		for (User user : users) {
+			jdbcTemplate.update("DELETE FROM notification WHERE sender_id = ? OR receiver_id = ?", user.getId(),
+					user.getId());
+			jdbcTemplate.update("DELETE FROM notification_unread_counter WHERE user_id = ?", user.getId());
+		}
+		jdbcTemplate.update("DELETE FROM notification_outbox WHERE recipient_id IS NULL AND payload LIKE ?",
+				"%" + PollBroadcastLoadTests.class.getSimpleName() + "%");
+		userRepo.deleteAll(users);
+	}
+
+	@Test
+	void pollFramesAndBytesGrowLinearlyWithTheAudience() throws Exception {
+		stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+		stompClient.setMessageConverter(new ByteArrayMessageConverter());
+		User admin = userRepo.save(TestUsers.newUser(UsersRole.ROLE_ADMIN));
+		users.add(admin);
+
+		for (int audience : AUDIENCES) {
+			List<User> residents = new ArrayList<>();
+			for (int i = 0; i < audience; i++)
+				residents.add(userRepo.save(TestUsers.newUser(UsersRole.ROLE_RESIDENT)));
+			users.addAll(residents);
+
+			AtomicInteger[] framesPerClient = new AtomicInteger[audience];
+			AtomicLong bytes = new AtomicLong();
+			AtomicLong frameBytes = new AtomicLong();
+			for (int i = 0; i < audience; i++) {
+				framesPerClient[i] = new AtomicInteger();
+				connect(residents.get(i), framesPerClient[i], bytes, frameBytes);
+			}
+			awaitSubscribers(audience);
+
+			notificationService.sendNotifications(admin, residents,
+					PollBroadcastLoadTests.class.getSimpleName() + " " + UUID.randomUUID(),
+					NotificationType.POLL.name());
+
+			awaitFrames(framesPerClient, audience);
+			// Leave time for any duplicate copies to arrive before counting
+			TimeUnit.SECONDS.sleep(2);
+			int frames = totalFrames(framesPerClient);
+
+			LOGGER.info("Poll to {} subscribers: {} frames, {} bytes", audience, frames, bytes.get());
+			assertEquals(audience, frames);
+			for (AtomicInteger clientFrames : framesPerClient)
+				assertEquals(1, clientFrames.get());
+			// One copy of the same payload per subscriber, so bandwidth is linear in the audience
+			assertEquals(audience * frameBytes.get(), bytes.get());
+
+			disconnectAll();
+			awaitSubscribers(0);
+		}
+	}
+
+	private void connect(User resident, AtomicInteger frames, AtomicLong bytes, AtomicLong frameBytes)
+			throws Exception {
+		StompHeaders connectHeaders = new StompHeaders();
+		connectHeaders.add("Authorization", "Bearer " + jwtUtil.generateAccessToken(UserDetailsImpl.build(resident)));
+
+		StompSession session = stompClient.connectAsync("ws://localhost:" + port + "/ws/websocket",
+				new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+				}).get(10, TimeUnit.SECONDS);
+		session.subscribe(AppConstant.SPECIFIC_USER_TOPIC, new StompFrameHandler() {
+
+			@Override
+			public Type getPayloadType(StompHeaders headers) {
+				return byte[].class;
+			}
+
+			@Override
+			public void handleFrame(StompHeaders headers, Object payload) {
+				int length = ((byte[]) payload).length;
+				frames.incrementAndGet();
+				bytes.addAndGet(length);
+				frameBytes.set(length);
+			}
+
+		});
+		sessions.add(session);
+	}
+
+	// The simple broker sends no receipts, so wait until the registry has seen every SUBSCRIBE (or DISCONNECT)
+	private void awaitSubscribers(int expected) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (System.currentTimeMillis() < deadline && userRegistry
+				.findSubscriptions(s -> AppConstant.SPECIFIC_USER_TOPIC.equals(s.getDestination())).size() != expected)
+			TimeUnit.MILLISECONDS.sleep(50);
+	}
+
+	private void awaitFrames(AtomicInteger[] framesPerClient, int audience) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (System.currentTimeMillis() < deadline && totalFrames(framesPerClient) < audience)
+			TimeUnit.MILLISECONDS.sleep(50);
+	}
+
+	private int totalFrames(AtomicInteger[] framesPerClient) {
+		int frames = 0;
+		for (AtomicInteger clientFrames : framesPerClient)
+			frames += clientFrames.get();
+		return frames;
+	}
+
+	private void disconnectAll() {
+		for (StompSession session : sessions) {
+			if (session.isConnected())
+				session.disconnect();
+		}
+		sessions.clear();
+	}
+
+}
@@ -0,0 +1,143 @@
+package com.mgmt.residency.websocket.relay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import com.mgmt.residency.ResidencyMgmtApplication;
+import com.mgmt.residency.TestUsers;
+import com.mgmt.residency.constants.AppConstant;
+import com.mgmt.residency.constants.UsersRole;
+import com.mgmt.residency.entity.User;
+import com.mgmt.residency.repository.UserRepository;
+import com.mgmt.residency.security.JwtUtil;
+import com.mgmt.residency.security.service.UserDetailsImpl;
+
+// Starts an embedded Artemis STOMP broker and two application nodes relaying through it, and checks that a user
+// message sent on one node reaches a session connected to the other. Compiled and run by mvn -Pbroker-relay test
+class BrokerRelayTwoNodeTests {
+
+	private static EmbeddedActiveMQ broker;
+
+	private static int brokerPort;
+
+	private ConfigurableApplicationContext nodeA;
+
+	private ConfigurableApplicationContext nodeB;
+
+	private User resident;
+
+	private WebSocketStompClient stompClient;
+
+	@BeforeAll
+	static void startBroker() throws Exception {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			brokerPort = socket.getLocalPort();
+		}
+		broker = new EmbeddedActiveMQ();
+		broker.setConfiguration(new ConfigurationImpl().setPersistenceEnabled(false).setSecurityEnabled(false)
+				.addAcceptorConfiguration("stomp", "tcp://localhost:" + brokerPort + "?protocols=STOMP"));
+		broker.start();
+	}
+
+	@AfterAll
+	static void stopBroker() throws Exception {
+		if (broker != null)
+			broker.stop();
+	}
+
+	@BeforeEach
+	void setUp() {
+		nodeA = startNode();
+		nodeB = startNode();
+
+		resident = nodeA.getBean(UserRepository.class).save(TestUsers.newUser(UsersRole.ROLE_RESIDENT));
+
+		stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+		stompClient.setMessageConverter(new StringMessageConverter());
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (stompClient != null)
+			stompClient.stop();
+		if (resident != null && resident.getId() != null)
+			nodeA.getBean(UserRepository.class).deleteById(resident.getId());
+		if (nodeB != null)
+			nodeB.close();
+		if (nodeA != null)
+			nodeA.close();
+	}
+
+	@Test
+	void userMessageSentOnOneNodeReachesSessionOnTheOther() throws Exception {
+		String token = nodeA.getBean(JwtUtil.class).generateAccessToken(UserDetailsImpl.build(resident));
+		StompHeaders connectHeaders = new StompHeaders();
+		connectHeaders.add("Authorization", "Bearer " + token);
+
+		String url = "ws://localhost:" + port(nodeA) + "/ws/websocket";
+		StompSession session = stompClient
+				.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+				}).get(10, TimeUnit.SECONDS);
+
+		BlockingQueue<String> received = new LinkedBlockingQueue<>();
+		session.subscribe("/user" + AppConstant.SPECIFIC_USER_TOPIC, new StompFrameHandler() {
+
+			@Override
+			public Type getPayloadType(StompHeaders headers) {
+				return String.class;
+			}
+
+			@Override
+			public void handleFrame(StompHeaders headers, Object payload) {
+				received.add((String) payload);
+			}
+
+		});
+
+		// The subscription reaches the broker asynchronously, so resend until node A delivers it
+		SimpMessagingTemplate templateB = nodeB.getBean(SimpMessagingTemplate.class);
+		String message = null;
+		for (int attempt = 0; attempt < 15 && message == null; attempt++) {
+			templateB.convertAndSendToUser(resident.getId(), AppConstant.SPECIFIC_USER_TOPIC, "from node B");
+			message = received.poll(1, TimeUnit.SECONDS);
+		}
+
+		assertEquals("from node B", message);
+	}
+
+	private ConfigurableApplicationContext startNode() {
+		return new SpringApplicationBuilder(ResidencyMgmtApplication.class).properties("server.port=0",
+				"websocket.broker.type=relay",
+				"websocket.broker.relay.host=localhost", "websocket.broker.relay.port=" + brokerPort).run();
+	}
+
+	private int port(ConfigurableApplicationContext node) {
+		return ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+	}
+
+}
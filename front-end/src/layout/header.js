@@ -5,7 +5,7 @@ import {
     MdKeyboardArrowDown,
     MdLogout
 } from 'react-icons/md';
-import { logout, getAllNotifications, updateNotificationViewStatus } from '../servicecall/api';
+import { logout, getAllNotifications, getUnreadNotificationCount, updateNotificationViewStatus } from '../servicecall/api';
 import { Stomp } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
 
@@ -61,9 +61,9 @@ const Header = ({ isSidebarExpanded }) => {
 
         try {
             console.log('Fetching notifications...');
-            const data = await getAllNotifications();
+            // The badge always shows the server counter, the same value the unread-count queue pushes
+            const [data, unreadCount] = await Promise.all([getAllNotifications(), getUnreadNotificationCount()]);
             setNotifications(data);
-            const unreadCount = data.filter(n => !n.viewStatus).length;
             setNotificationCount(unreadCount);
             console.log('Notifications updated successfully:', data.length, 'total,', unreadCount, 'unread');
         } catch (error) {
@@ -85,9 +85,8 @@ const Header = ({ isSidebarExpanded }) => {
             console.log('Fetching notifications because popover opened');
             const fetchNotifications = async () => {
                 try {
-                    const data = await getAllNotifications();
+                    const [data, unreadCount] = await Promise.all([getAllNotifications(), getUnreadNotificationCount()]);
                     setNotifications(data);
-                    const unreadCount = data.filter(n => !n.viewStatus).length;
                     setNotificationCount(unreadCount);
 
                 } catch (error) {
@@ -103,11 +102,11 @@ const Header = ({ isSidebarExpanded }) => {
 
         if (role === 'ROLE_RESIDENT') {
             topics.push('/all/user');
-            topics.push(`/announcements/${userData.id}`);
-            topics.push(`/task/${userData.id}`);
+            topics.push('/user/queue/announcements');
+            topics.push('/user/queue/tasks');
         } else if (role === 'ROLE_GUEST') {
-            topics.push(`/announcements/${userData.id}`);
-            topics.push(`/task/${userData.id}`);
+            topics.push('/user/queue/announcements');
+            topics.push('/user/queue/tasks');
         }
 
         return topics;
@@ -126,6 +125,9 @@ const Header = ({ isSidebarExpanded }) => {
                 stompClientRef.current = stompClient;
 
                 stompClient.configure({
+                    connectHeaders: {
+                        Authorization: `Bearer ${localStorage.getItem('token')}`
+                    },
                     debug: (str) => {
                         console.log('STOMP Debug:', str);
                     },
@@ -175,6 +177,15 @@ const Header = ({ isSidebarExpanded }) => {
                         subscriptionsRef.current.push(subscription);
                     });
 
+                    const unreadSubscription = stompClient.subscribe('/user/queue/unread-count', (message) => {
+                        try {
+                            setNotificationCount(JSON.parse(message.body).unreadCount);
+                        } catch (error) {
+                            console.error('Error parsing unread count message:', error);
+                        }
+                    });
+                    subscriptionsRef.current.push(unreadSubscription);
+
                     console.log('Successfully subscribed to', topics.length, 'topics');
                 };
 
@@ -289,13 +300,7 @@ const Header = ({ isSidebarExpanded }) => {
                 )
             );
 
-            const updatedNotifications = notifications.map(n =>
-                n.id === notification.id
-                    ? { ...n, viewStatus: !n.viewStatus }
-                    : n
-            );
-            const unreadCount = updatedNotifications.filter(n => !n.viewStatus).length;
-            setNotificationCount(unreadCount);
+            setNotificationCount(await getUnreadNotificationCount());
 
         } catch (error) {
             console.error('Failed to update notification status:', error);
@@ -6,6 +6,7 @@ import {
   getPaymentsDetails,
   getPaymentSummary,
   getAllUsers,
+  downloadReceipt,
 } from '../../servicecall/api';
 import { toast, ToastContainer } from 'react-toastify';
 import 'react-toastify/dist/ReactToastify.css';
@@ -130,6 +131,20 @@ const PaymentDetailsModal = ({ payment, onClose }) => {
     });
   };
 
+  const handleReceiptDownload = async (file) => {
+    try {
+      const blob = await downloadReceipt(file.id);
+      const url = URL.createObjectURL(blob);
+      const link = document.createElement('a');
+      link.href = url;
+      link.download = file.fileName;
+      link.click();
+      URL.revokeObjectURL(url);
+    } catch (error) {
+      toast.error(error?.response?.data?.message || 'Failed to download receipt');
+    }
+  };
+
   const renderAttachments = (attachments) => {
     const hasTask = attachments?.task;
     const hasFiles = attachments?.files && attachments.files.length > 0;
@@ -156,7 +171,7 @@ const PaymentDetailsModal = ({ payment, onClose }) => {
               <div key={idx} className="flex items-center justify-between bg-gray-50 p-2 rounded border">
                 <div className="flex items-center gap-2">
                   {file.fileType.startsWith('image/') && (
-                    <img src={file.receiptFile} alt={file.fileName} className="h-6 w-6 rounded object-cover" />
+                    <PaperClipIcon className="w-4 h-4 text-gray-600" />
                   )}
                   {file.fileType === 'application/pdf' && (
                     <svg className="w-4 h-4 text-red-600" fill="currentColor" viewBox="0 0 24 24">
@@ -165,13 +180,13 @@ const PaymentDetailsModal = ({ payment, onClose }) => {
                   )}
                   <span className="text-sm text-gray-700 truncate">{file.fileName}</span>
                 </div>
-                <a
-                  href={file.receiptFile}
-                  download={file.fileName}
+                <button
+                  type="button"
+                  onClick={() => handleReceiptDownload(file)}
                   className="px-2 py-1 text-blue-600 text-xs hover:bg-blue-50"
                 >
                   <ArrowDownTrayIcon className="w-4 h-4" />
-                </a>
+                </button>
               </div>
             ))}
           </div>
@@ -1,6 +1,8 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import { toast } from 'react-toastify';
-import { castVote, closePoll, createPoll, deletePoll, getAllPolls, updatePoll } from '../../servicecall/api';
+import { Stomp } from '@stomp/stompjs';
+import SockJS from 'sockjs-client';
+import { castVote, closePoll, createPoll, deletePoll, getAllPolls, getPollVoters, updatePoll } from '../../servicecall/api';
 
 export const Voting = () => {
   const [isAdmin, setIsAdmin] = useState(false);
@@ -14,6 +16,12 @@ export const Voting = () => {
   const [selectedOptions, setSelectedOptions] = useState({});
   const [votingLoading, setVotingLoading] = useState({});
   const [selectedOptionForVoters, setSelectedOptionForVoters] = useState({});
+  const [votersByOption, setVotersByOption] = useState({});
+  const [votersCursorByOption, setVotersCursorByOption] = useState({});
+  const [votersLoading, setVotersLoading] = useState({});
+  const [resultsConnected, setResultsConnected] = useState(false);
+  const stompClientRef = useRef(null);
+  const resultSubscriptionsRef = useRef({});
 
   useEffect(() => {
     const userData = JSON.parse(localStorage.getItem('userData'));
@@ -34,6 +42,80 @@ export const Voting = () => {
     setSelectedOptions(newSelectedOptions);
   }, [polls]);
 
+  // Admins get live tallies from /all/polls/{pollId}/results instead of re-fetching the poll list
+  useEffect(() => {
+    if (!isAdmin) return;
+
+    const stompClient = Stomp.over(new SockJS(process.env.REACT_APP_WS_URL || 'http://localhost:8001/ws'));
+    stompClient.configure({
+      connectHeaders: {
+        Authorization: `Bearer ${localStorage.getItem('token')}`
+      },
+      debug: () => {},
+      reconnectDelay: 5000,
+      heartbeatIncoming: 10000,
+      heartbeatOutgoing: 10000,
+      connectionTimeout: 10000,
+    });
+    stompClient.onConnect = () => setResultsConnected(true);
+    stompClient.onWebSocketClose = () => {
+      // Subscriptions die with the connection and are made again on the next connect
+      resultSubscriptionsRef.current = {};
+      setResultsConnected(false);
+    };
+    stompClient.activate();
+    stompClientRef.current = stompClient;
+
+    return () => {
+      resultSubscriptionsRef.current = {};
+      setResultsConnected(false);
+      stompClient.deactivate();
+      stompClientRef.current = null;
+    };
+  }, [isAdmin]);
+
+  const activePollIds = polls.filter(poll => poll.isActive).map(poll => poll.pollId).join(',');
+
+  useEffect(() => {
+    if (!resultsConnected || !stompClientRef.current) return;
+
+    const pollIds = activePollIds ? activePollIds.split(',') : [];
+    const subscriptions = resultSubscriptionsRef.current;
+    Object.keys(subscriptions).forEach(pollId => {
+      if (!pollIds.includes(pollId)) {
+        subscriptions[pollId].unsubscribe();
+        delete subscriptions[pollId];
+      }
+    });
+    pollIds.forEach(pollId => {
+      if (!subscriptions[pollId]) {
+        subscriptions[pollId] = stompClientRef.current.subscribe(`/all/polls/${pollId}/results`, (message) => {
+          applyTallies(JSON.parse(message.body));
+        });
+      }
+    });
+  }, [resultsConnected, activePollIds]);
+
+  // Each message carries the full per-option tally, so results are recomputed the same way the server does
+  const applyTallies = ({ pollId, tallies, voteCount }) => {
+    setPolls(prev => prev.map(poll => {
+      if (poll.pollId !== pollId) return poll;
+      return {
+        ...poll,
+        voteCount,
+        optionResults: poll.options.map((option, index) => {
+          const optionVotes = tallies[option] || 0;
+          return {
+            ...(poll.optionResults?.[index] || {}),
+            option,
+            voteCount: optionVotes,
+            percentage: voteCount === 0 ? 0 : (optionVotes / voteCount) * 100
+          };
+        })
+      };
+    }));
+  };
+
   const fetchPolls = async () => {
     try {
       setLoading(true);
@@ -156,6 +238,20 @@ export const Voting = () => {
     }
   };
 
+  // Voters are paged by the server; each call appends the next page and keeps its cursor for "Load more"
+  const loadVoters = async (pollId, option, key, cursor) => {
+    setVotersLoading(prev => ({ ...prev, [key]: true }));
+    try {
+      const page = await getPollVoters(pollId, option, cursor);
+      setVotersByOption(prev => ({ ...prev, [key]: [...(cursor ? prev[key] || [] : []), ...page.voters] }));
+      setVotersCursorByOption(prev => ({ ...prev, [key]: page.nextCursor }));
+    } catch (error) {
+      toast.error('Failed to load voters');
+    } finally {
+      setVotersLoading(prev => ({ ...prev, [key]: false }));
+    }
+  };
+
   const handleOptionSelect = async (pollId, optionIndex) => {
     const poll = polls.find(p => p.pollId === pollId);
 
@@ -166,10 +262,15 @@ export const Voting = () => {
 
     if (isAdmin) {
       const key = `${pollId}-${optionIndex}`;
+      const opening = !selectedOptionForVoters[key];
       setSelectedOptionForVoters(prev => ({
         ...prev,
         [key]: !prev[key]
       }));
+      if (opening) {
+        setVotersByOption(prev => ({ ...prev, [key]: [] }));
+        await loadVoters(pollId, poll.options[optionIndex], key, null);
+      }
       return;
     }
 
@@ -194,12 +295,17 @@ export const Voting = () => {
         pollId: pollId,
         selectedOption: selectedOption
       };
-      await castVote(votePayload);
+      const result = await castVote(votePayload);
 
       toast.success('Vote submitted successfully!');
 
-      // Fetch latest data instead of updating local state
-      fetchPolls();
+      if (result.accepted) {
+        // A buffered vote is not in /voting/polls yet, so a refetch would show the old selection
+        setPolls(prev => prev.map(p => (p.pollId === pollId ? { ...p, selectedOption } : p)));
+      } else {
+        // Fetch latest data instead of updating local state
+        fetchPolls();
+      }
 
     } catch (error) {
       toast.error(error?.response?.data?.message || 'Failed to submit vote');
@@ -237,7 +343,7 @@ export const Voting = () => {
     if (poll.optionResults && poll.optionResults[optionIndex]) {
       return poll.optionResults[optionIndex];
     }
-    return { voteCount: 0, percentage: 0, voters: [] };
+    return { voteCount: 0, percentage: 0 };
   };
 
   const getAvatarStyle = (index) => {
@@ -266,6 +372,9 @@ export const Voting = () => {
             const voteCount = optionResult.voteCount || 0;
             const key = `${poll.pollId}-${index}`;
             const showVoters = selectedOptionForVoters[key];
+            const voters = votersByOption[key] || [];
+            const votersCursor = votersCursorByOption[key];
+            const hiddenVoterCount = Math.max(voteCount, voters.length) - 30;
 
             return (
               <div key={index} className="space-y-2">
@@ -289,9 +398,9 @@ export const Voting = () => {
                     {percentage}% ({voteCount})
                   </span>
                 </div>
-                {showVoters && optionResult.voters && optionResult.voters.length > 0 && (
+                {showVoters && voters.length > 0 && (
                   <div className="flex items-center gap-2 flex-wrap">
-                    {optionResult.voters.slice(0, 30).map((voter, voterIndex) => (
+                    {voters.slice(0, 30).map((voter, voterIndex) => (
                       <div
                         key={voterIndex}
                         className="relative group"
@@ -305,14 +414,14 @@ export const Voting = () => {
                         </div>
                       </div>
                     ))}
-                    {optionResult.voters.length > 30 && (
+                    {hiddenVoterCount > 0 && (
                       <div className="relative group">
                         <div className="w-8 h-8 bg-gray-500 rounded-full flex items-center justify-center text-xs font-semibold text-white cursor-pointer hover:bg-gray-600 transition-colors">
-                          +{optionResult.voters.length - 30}
+                          +{hiddenVoterCount}
                         </div>
                         <div className="absolute bottom-full left-1/2 transform -translate-x-1/2 mb-2 px-3 py-2 bg-gray-900 text-white text-xs rounded opacity-0 group-hover:opacity-100 transition-opacity duration-200 pointer-events-none z-20 max-w-xs">
                           <div className="max-h-32 overflow-y-auto space-y-1">
-                            {optionResult.voters.slice(30).map((voter, idx) => (
+                            {voters.slice(30).map((voter, idx) => (
                               <div key={idx} className="whitespace-nowrap">
                                 {voter.firstName} {voter.lastName} ({voter.email})
                               </div>
@@ -321,6 +430,15 @@ export const Voting = () => {
                         </div>
                       </div>
                     )}
+                    {votersCursor && (
+                      <button
+                        onClick={() => loadVoters(poll.pollId, option, key, votersCursor)}
+                        disabled={votersLoading[key]}
+                        className="text-xs px-2 py-1 text-blue-600 hover:text-blue-700 font-medium disabled:opacity-50"
+                      >
+                        {votersLoading[key] ? 'Loading...' : 'Load more'}
+                      </button>
+                    )}
                   </div>
                 )}
               </div>
@@ -114,10 +114,20 @@ export const closePoll = async (pollId) => {
     }
 };
 
+export const getPollVoters = async (pollId, option, cursor) => {
+    try {
+        const response = await api.get(`/voting/poll/${pollId}/voters`, { params: { option, cursor } });
+        return response.data;
+    } catch (error) {
+        throw error;
+    }
+};
+
 export const castVote = async (voteData) => {
     try {
         const response = await api.post('/voting', voteData);
-        return response.data;
+        // 202 means the vote was buffered and is not in the poll list until the next flush
+        return { accepted: response.status === 202, message: response.data };
     } catch (error) {
         throw error;
     }
@@ -133,6 +143,16 @@ export const getAllNotifications = async () => {
     }
 };
 
+export const getUnreadNotificationCount = async () => {
+    try {
+        const response = await api.get('/notification/unread-count');
+        return response.data.unreadCount;
+    } catch (error) {
+        console.error('Error fetching unread notification count:', error);
+        throw error;
+    }
+};
+
 export const updateNotificationViewStatus = async (notificationId) => {
     try {
         const response = await api.put(`/notification/status/${notificationId}`);
@@ -387,4 +407,13 @@ export const getPaymentSummary = async () => {
     } catch (error) {
         throw error;
     }
+};
+
+export const downloadReceipt = async (fileId) => {
+    try {
+        const response = await api.get(`/payment/receipt/${fileId}`, { responseType: 'blob', timeout: 0 });
+        return response.data;
+    } catch (error) {
+        throw error;
+    }
 };
\ No newline at end of file